@@ -0,0 +1,125 @@
+#!/bin/bash
+
+# Compares platform-thread and virtual-thread request execution under high client concurrency.
+#
+# Usage: ./benchmark-concurrency.sh [clients] [requests-per-client]
+#
+# The script starts the packaged jar once per mode, fires concurrent GETs at the course and
+# instance endpoints with curl, and reports latency percentiles plus the number of 503s returned
+# by the database admission gate. The warm catalog is disabled so every request goes through the
+# repositories and blocks on SQLite JDBC. Needs a JDK 21+ `java` on the PATH.
+
+# Colors for output
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # No Color
+
+CLIENTS=${1:-1000}
+REQUESTS_PER_CLIENT=${2:-5}
+PORT=${BENCHMARK_PORT:-8080}
+JAR="target/course-management-0.0.1-SNAPSHOT.jar"
+REPORT_FILE="benchmark_report.md"
+RESULTS_DIR="benchmark_results"
+
+if [ ! -f "$JAR" ]; then
+    echo "Building application jar..."
+    mvn -q package -DskipTests || exit 1
+fi
+
+JAVA_MAJOR=$(java -version 2>&1 | head -1 | sed -E 's/.*version "([0-9]+).*/\1/')
+if [ "$JAVA_MAJOR" -lt 21 ]; then
+    echo -e "${RED}JDK 21+ required (found $JAVA_MAJOR)${NC}"
+    exit 1
+fi
+
+mkdir -p "$RESULTS_DIR"
+
+cat > "$REPORT_FILE" << EOF
+# Concurrency Benchmark Report
+Generated on: $(date '+%Y-%m-%d %H:%M:%S')
+
+- Clients: $CLIENTS
+- Requests per client: $REQUESTS_PER_CLIENT
+- Java: $JAVA_MAJOR
+
+| Mode | Requests | 2xx | 503 | Other | p50 (ms) | p95 (ms) | p99 (ms) | Wall time (s) |
+|------|----------|-----|-----|-------|----------|----------|----------|---------------|
+EOF
+
+wait_for_startup() {
+    until curl -s "http://localhost:$PORT/actuator/health" &> /dev/null; do
+        sleep 1
+    done
+}
+
+seed_data() {
+    curl -s -o /dev/null -X POST "http://localhost:$PORT/api/courses" \
+        -H "Content-Type: application/json" \
+        -d '{"courseId":"BENCH101","title":"Benchmark Course","description":"Seed data","prerequisites":[]}'
+    curl -s -o /dev/null -X POST "http://localhost:$PORT/api/instances" \
+        -H "Content-Type: application/json" \
+        -d '{"courseId":"BENCH101","year":2024,"semester":1,"instructor":"Benchmark"}'
+}
+
+# Each client issues its requests sequentially; xargs keeps $CLIENTS clients in flight at once
+client() {
+    local port="$1"
+    local count="$2"
+    for ((i = 0; i < count; i++)); do
+        if (( i % 2 == 0 )); then
+            curl -s -o /dev/null -w "%{http_code} %{time_total}\n" "http://localhost:$port/api/courses"
+        else
+            curl -s -o /dev/null -w "%{http_code} %{time_total}\n" "http://localhost:$port/api/instances/2024/1"
+        fi
+    done
+}
+export -f client
+
+run_mode() {
+    local mode="$1"
+    local virtual="$2"
+    local results="$RESULTS_DIR/${mode}.txt"
+    local db_file
+    db_file=$(mktemp -u /tmp/benchmark_XXXXXX.db)
+
+    echo -e "\n${YELLOW}Starting application in $mode mode...${NC}"
+    VIRTUAL_THREADS_ENABLED="$virtual" SQLITE_DB_PATH="$db_file" \
+        java $JAVA_OPTS -jar "$JAR" --server.port="$PORT" --spring.jpa.show-sql=false --app.rate-limit.enabled=false \
+        --app.catalog-snapshot.enabled=false \
+        --logging.level.org.hibernate=WARN --logging.level.com.iitb=INFO > "$RESULTS_DIR/${mode}.log" 2>&1 &
+    local app_pid=$!
+    wait_for_startup
+    seed_data
+
+    echo "Running $CLIENTS concurrent clients x $REQUESTS_PER_CLIENT requests..."
+    local start end
+    start=$(date +%s.%N)
+    seq "$CLIENTS" | xargs -P "$CLIENTS" -I{} bash -c "client $PORT $REQUESTS_PER_CLIENT" > "$results"
+    end=$(date +%s.%N)
+
+    kill "$app_pid"
+    wait "$app_pid" 2> /dev/null
+    rm -f "$db_file"
+
+    local wall
+    wall=$(awk -v s="$start" -v e="$end" 'BEGIN { print e - s }')
+    sort -k2 -n "$results" | awk -v mode="$mode" -v wall="$wall" '
+        { total++; latency[total] = $2 * 1000
+          if ($1 ~ /^2/) ok++; else if ($1 == "503") busy++; else other++ }
+        END {
+            p50 = latency[int(total * 0.50) > 0 ? int(total * 0.50) : 1]
+            p95 = latency[int(total * 0.95) > 0 ? int(total * 0.95) : 1]
+            p99 = latency[int(total * 0.99) > 0 ? int(total * 0.99) : 1]
+            printf "| %s | %d | %d | %d | %d | %.1f | %.1f | %.1f | %.2f |\n",
+                mode, total, ok, busy, other, p50, p95, p99, wall
+        }' >> "$REPORT_FILE"
+
+    echo -e "${GREEN}Finished $mode mode${NC}"
+}
+
+run_mode "platform" "false"
+run_mode "virtual" "true"
+
+echo -e "\n${GREEN}Benchmark complete. Results written to $REPORT_FILE${NC}"
+cat "$REPORT_FILE"
@@ -0,0 +1,129 @@
+#!/bin/bash
+
+# Measures cold-start time of the standard fat jar against the fast-start build
+# (Spring AOT + class-data-sharing archive).
+#
+# Usage: ./benchmark-startup.sh [runs]
+#
+# Set MAX_FAST_START_SECONDS to fail the script when the median fast-start boot is slower
+# than the given number of seconds, e.g. MAX_FAST_START_SECONDS=5 ./benchmark-startup.sh
+
+# Colors for output
+GREEN='\033[0;32m'
+RED='\033[0;31m'
+YELLOW='\033[1;33m'
+NC='\033[0m' # No Color
+
+RUNS=${1:-5}
+PORT=${BENCHMARK_PORT:-8080}
+JAR_NAME="course-management-0.0.1-SNAPSHOT.jar"
+WORK_DIR="startup_benchmark"
+REPORT_FILE="startup_benchmark_report.md"
+APP_ARGS="--server.port=$PORT --spring.jpa.show-sql=false --logging.level.org.hibernate=WARN --logging.level.com.iitb=INFO"
+
+rm -rf "$WORK_DIR"
+mkdir -p "$WORK_DIR/standard" "$WORK_DIR/fast"
+
+echo -e "${YELLOW}Building standard jar...${NC}"
+mvn -q clean package -DskipTests || exit 1
+cp "target/$JAR_NAME" "$WORK_DIR/standard/app.jar"
+
+echo -e "${YELLOW}Building fast-start jar...${NC}"
+mvn -q -Pfast-start clean package -DskipTests || exit 1
+cp "target/$JAR_NAME" "$WORK_DIR/fast/app.jar"
+cp -r target/lib "$WORK_DIR/fast/lib"
+
+echo -e "${YELLOW}Training class-data-sharing archive...${NC}"
+(
+    cd "$WORK_DIR/fast" &&
+    SQLITE_DB_PATH="$(mktemp -u /tmp/startup_training_XXXXXX.db)" \
+        java -XX:ArchiveClassesAtExit=app.jsa -Xlog:cds=off -Xlog:cds+dynamic=off \
+        -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh -jar app.jar $APP_ARGS > training.log 2>&1
+) || { echo -e "${RED}CDS training run failed, see $WORK_DIR/fast/training.log${NC}"; exit 1; }
+
+# Boots the jar in the given directory and prints "<spring started seconds> <time to healthy ms>"
+measure_boot() {
+    local dir="$1"
+    local java_flags="$2"
+    local db_file log_file
+    db_file=$(mktemp -u /tmp/startup_benchmark_XXXXXX.db)
+    log_file="$dir/boot.log"
+
+    local start
+    start=$(date +%s%N)
+    (cd "$dir" && SQLITE_DB_PATH="$db_file" exec java $java_flags -jar app.jar $APP_ARGS > boot.log 2>&1) &
+    local app_pid=$!
+    until curl -s "http://localhost:$PORT/actuator/health" &> /dev/null; do
+        if ! kill -0 "$app_pid" 2> /dev/null; then
+            echo -e "${RED}Application exited during startup, see $log_file${NC}" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    local ready
+    ready=$(( ($(date +%s%N) - start) / 1000000 ))
+
+    kill "$app_pid"
+    wait "$app_pid" 2> /dev/null
+    rm -f "$db_file"
+
+    local started
+    started=$(grep -o "Started CourseManagementApplication in [0-9.]*" "$log_file" | awk '{print $4}')
+    if [ -z "$started" ]; then
+        echo -e "${RED}Could not find the \"Started ... in\" time, see $log_file${NC}" >&2
+        return 1
+    fi
+    echo "$started $ready"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+cat > "$REPORT_FILE" << EOF
+# Startup Benchmark Report
+Generated on: $(date '+%Y-%m-%d %H:%M:%S')
+
+- Runs per build: $RUNS
+- Java: $(java -version 2>&1 | head -1)
+
+| Build | Median Spring start (s) | Median time to healthy (ms) |
+|-------|-------------------------|-----------------------------|
+EOF
+
+FAST_MEDIAN=""
+for build in standard fast; do
+    if [ "$build" = "fast" ]; then
+        flags="-XX:SharedArchiveFile=app.jsa -Xlog:cds=off -Dspring.aot.enabled=true"
+    else
+        flags=""
+    fi
+
+    results="$WORK_DIR/$build/results.txt"
+    : > "$results"
+    for ((run = 1; run <= RUNS; run++)); do
+        echo "Booting $build build ($run/$RUNS)..."
+        measure_boot "$WORK_DIR/$build" "$flags" >> "$results" || exit 1
+    done
+
+    started_median=$(awk '{print $1}' "$results" | median)
+    ready_median=$(awk '{print $2}' "$results" | median)
+    echo "| $build | $started_median | $ready_median |" >> "$REPORT_FILE"
+    if [ "$build" = "fast" ]; then
+        FAST_MEDIAN="$started_median"
+    fi
+done
+
+echo -e "\n${GREEN}Startup benchmark complete. Results written to $REPORT_FILE${NC}"
+cat "$REPORT_FILE"
+
+if [ -n "$MAX_FAST_START_SECONDS" ]; then
+    if ! awk -v a="$FAST_MEDIAN" 'BEGIN { exit !(a ~ /^[0-9]+(\.[0-9]+)?$/) }'; then
+        echo -e "${RED}Could not determine the fast-start median (got '${FAST_MEDIAN}')${NC}"
+        exit 1
+    fi
+    if awk -v a="$FAST_MEDIAN" -v b="$MAX_FAST_START_SECONDS" 'BEGIN { exit !(a > b) }'; then
+        echo -e "${RED}Fast-start regression: median ${FAST_MEDIAN}s exceeds ${MAX_FAST_START_SECONDS}s${NC}"
+        exit 1
+    fi
+fi
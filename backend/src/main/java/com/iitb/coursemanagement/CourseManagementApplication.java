@@ -1,11 +1,37 @@
 package com.iitb.coursemanagement;
 
+import com.iitb.coursemanagement.transfer.CatalogCommandLineRunner;
+import org.springframework.aot.AotDetector;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 @SpringBootApplication
 public class CourseManagementApplication {
     public static void main(String[] args) {
-        SpringApplication.run(CourseManagementApplication.class, args);
+        SpringApplication application = new SpringApplication(CourseManagementApplication.class);
+        boolean catalogCommand = CatalogCommandLineRunner.isCatalogCommand(args);
+        // Catalog export/import runs as a one-shot command without serving HTTP
+        if (catalogCommand) {
+            List<String> commandArgs = new ArrayList<>(Arrays.asList(args));
+            // The command neither reads the warm catalog nor should it load or overwrite its snapshot
+            commandArgs.add("--app.catalog-snapshot.enabled=false");
+            if (AotDetector.useGeneratedArtifacts()) {
+                // The AOT-generated context is fixed to a servlet application; keep it but open no port
+                commandArgs.add("--server.port=-1");
+            } else {
+                application.setWebApplicationType(WebApplicationType.NONE);
+            }
+            args = commandArgs.toArray(new String[0]);
+        }
+        ConfigurableApplicationContext context = application.run(args);
+        if (catalogCommand) {
+            System.exit(SpringApplication.exit(context));
+        }
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.iitb.coursemanagement.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Keeps one {@link TokenBucket} per client and {@link EndpointClass}, so a client hammering the
+ * catalog listing exhausts its bulk-read budget without touching its write budget or anyone else's.
+ * <p>
+ * Buckets live in a size-bounded cache and expire once unused for as long as the slowest bucket needs
+ * to refill completely, so an expired bucket would have been full anyway and dropping it loses no state.
+ */
+@Component
+public class ClientRateLimiter {
+
+    private record Limit(double capacity, double refillPerSecond) {
+    }
+
+    private record BucketKey(String clientId, EndpointClass endpointClass) {
+    }
+
+    private final boolean enabled;
+    private final Map<EndpointClass, Limit> limits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> throttledCounters = new EnumMap<>(EndpointClass.class);
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    public ClientRateLimiter(
+            @Value("${app.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.rate-limit.max-tracked-buckets:10000}") int maxTrackedBuckets,
+            @Value("${app.rate-limit.bulk-read.capacity:20}") double bulkReadCapacity,
+            @Value("${app.rate-limit.bulk-read.refill-per-second:2}") double bulkReadRefill,
+            @Value("${app.rate-limit.read.capacity:60}") double readCapacity,
+            @Value("${app.rate-limit.read.refill-per-second:20}") double readRefill,
+            @Value("${app.rate-limit.write.capacity:30}") double writeCapacity,
+            @Value("${app.rate-limit.write.refill-per-second:10}") double writeRefill,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        limits.put(EndpointClass.BULK_READ, new Limit(bulkReadCapacity, bulkReadRefill));
+        limits.put(EndpointClass.READ, new Limit(readCapacity, readRefill));
+        limits.put(EndpointClass.WRITE, new Limit(writeCapacity, writeRefill));
+
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            throttledCounters.put(endpointClass, Counter.builder("rate.limit.throttled")
+                .description("Requests rejected by the per-client rate limiter")
+                .tag("class", endpointClass.name().toLowerCase())
+                .register(meterRegistry));
+        }
+
+        double slowestRefillSeconds = limits.values().stream()
+            .mapToDouble(limit -> limit.refillPerSecond() > 0 ? limit.capacity() / limit.refillPerSecond() : 3600)
+            .max()
+            .orElse(1);
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxTrackedBuckets)
+            .expireAfterAccess(Duration.ofMillis((long) Math.ceil(slowestRefillSeconds * 1000)))
+            .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Takes a token for the given client and endpoint class.
+     *
+     * @return 0 if the request may proceed, otherwise the nanoseconds until the client may retry
+     */
+    public long tryAcquire(String clientId, EndpointClass endpointClass) {
+        long now = System.nanoTime();
+        Limit limit = limits.get(endpointClass);
+        TokenBucket bucket = buckets.get(new BucketKey(clientId, endpointClass),
+            key -> new TokenBucket(limit.capacity(), limit.refillPerSecond(), now));
+
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            throttledCounters.get(endpointClass).increment();
+        }
+        return waitNanos;
+    }
+}
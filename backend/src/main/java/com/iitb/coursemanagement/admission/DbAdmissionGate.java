@@ -0,0 +1,123 @@
+package com.iitb.coursemanagement.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounds the number of requests that may be talking to SQLite at the same time.
+ *
+ * SQLite serializes writers on a single file lock, so letting every servlet (or virtual)
+ * thread reach the JDBC driver only moves the queue into the driver, where it is invisible
+ * and unbounded. Requests instead wait here for at most {@code maxWait} and are rejected
+ * with a 503 once that budget is spent.
+ *
+ * A few permits are held back for priority requests (frontend writes), so a flood of bulk
+ * reads can fill the shared permits without locking interactive edits out. At least one
+ * permit always stays shared, so the reserve shrinks when {@code maxConcurrent} is small.
+ */
+@Component
+public class DbAdmissionGate {
+
+    private static final Logger logger = LoggerFactory.getLogger(DbAdmissionGate.class);
+
+    /** Which pool a granted permit came from; must be handed back to {@link #release(Permit)}. */
+    public enum Permit {
+        SHARED,
+        PRIORITY
+    }
+
+    private final boolean enabled;
+    private final int maxConcurrent;
+    private final long maxWaitMillis;
+    private final Semaphore sharedPermits;
+    private final Semaphore priorityPermits;
+
+    private final Timer queueTimer;
+    private final Counter rejectedCounter;
+
+    public DbAdmissionGate(
+            @Value("${app.db-admission.enabled:true}") boolean enabled,
+            @Value("${app.db-admission.max-concurrent:10}") int maxConcurrent,
+            @Value("${app.db-admission.max-wait-ms:200}") long maxWaitMillis,
+            @Value("${app.db-admission.priority-reserved:2}") int priorityReserved,
+            MeterRegistry meterRegistry) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("app.db-admission.max-concurrent must be at least 1");
+        }
+        if (priorityReserved < 0) {
+            throw new IllegalArgumentException("app.db-admission.priority-reserved must not be negative");
+        }
+        if (priorityReserved >= maxConcurrent) {
+            logger.warn("app.db-admission.priority-reserved={} leaves no shared permits with max-concurrent={}, "
+                + "reserving {} instead", priorityReserved, maxConcurrent, maxConcurrent - 1);
+            priorityReserved = maxConcurrent - 1;
+        }
+        this.enabled = enabled;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitMillis = maxWaitMillis;
+        this.sharedPermits = new Semaphore(maxConcurrent - priorityReserved, true);
+        this.priorityPermits = new Semaphore(priorityReserved, true);
+
+        this.queueTimer = Timer.builder("db.admission.queue")
+            .description("Time requests spent waiting for a database admission permit")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("db.admission.rejected")
+            .description("Requests rejected because no database admission permit became available")
+            .register(meterRegistry);
+        Gauge.builder("db.admission.in-flight", this,
+                gate -> maxConcurrent - gate.sharedPermits.availablePermits() - gate.priorityPermits.availablePermits())
+            .description("Requests currently holding a database admission permit")
+            .register(meterRegistry);
+        Gauge.builder("db.admission.waiting", this,
+                gate -> gate.sharedPermits.getQueueLength() + gate.priorityPermits.getQueueLength())
+            .description("Requests currently queued for a database admission permit")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Waits up to the configured budget for a permit. Priority requests first try the reserved
+     * pool without waiting and then queue for a shared permit like everyone else.
+     *
+     * @return the granted permit, or null if none became available in time
+     */
+    public Permit tryAcquire(boolean priority) throws InterruptedException {
+        long start = System.nanoTime();
+        Permit permit = null;
+        if (priority && priorityPermits.tryAcquire()) {
+            permit = Permit.PRIORITY;
+        } else if (sharedPermits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+            permit = Permit.SHARED;
+        }
+        queueTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (permit == null) {
+            rejectedCounter.increment();
+        }
+        return permit;
+    }
+
+    public void release(Permit permit) {
+        if (permit == Permit.PRIORITY) {
+            priorityPermits.release();
+        } else {
+            sharedPermits.release();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.iitb.coursemanagement.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Wraps the course and instance API handlers in a {@link DbAdmissionGate} permit.
+ * Requests that cannot get a permit in time are answered with 503 before any JDBC work starts.
+ */
+@Component
+public class DbAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(DbAdmissionInterceptor.class);
+
+    private static final String PERMIT_ATTRIBUTE = DbAdmissionInterceptor.class.getName() + ".PERMIT";
+
+    @Autowired
+    private DbAdmissionGate admissionGate;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        if (!admissionGate.isEnabled() || endpointClass == null || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+
+        DbAdmissionGate.Permit permit;
+        try {
+            permit = admissionGate.tryAcquire(endpointClass.isPriority());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            permit = null;
+        }
+
+        if (permit == null) {
+            logger.warn("Database admission saturated, rejecting {} {}", request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Server is busy, please retry shortly");
+            return false;
+        }
+
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof DbAdmissionGate.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            admissionGate.release(permit);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.iitb.coursemanagement.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.regex.Pattern;
+
+/**
+ * Groups API requests by cost so that rate limits and database admission can treat them differently.
+ */
+public enum EndpointClass {
+
+    /** Endpoints that return a whole collection, e.g. {@code GET /api/courses}, a semester view or a catalog export. */
+    BULK_READ,
+
+    /** Single-resource lookups. */
+    READ,
+
+    /** Interactive create/update/delete calls from the frontend; served on the priority lane. */
+    WRITE;
+
+    private static final Pattern BULK_READ_PATH = Pattern.compile(
+        "^/api/(courses|(instances|semesters)(/\\d+/\\d+)?|catalog/export(/[^/]+)?)/?$");
+
+    /**
+     * @return the class of the request, or null for requests that are not subject to admission control
+     *         (CORS preflights, HEAD probes)
+     */
+    public static EndpointClass of(HttpServletRequest request) {
+        String method = request.getMethod();
+        if ("OPTIONS".equals(method) || "HEAD".equals(method)) {
+            return null;
+        }
+        if (!"GET".equals(method)) {
+            return WRITE;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return BULK_READ_PATH.matcher(path).matches() ? BULK_READ : READ;
+    }
+
+    public boolean isPriority() {
+        return this == WRITE;
+    }
+}
@@ -0,0 +1,95 @@
+package com.iitb.coursemanagement.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@link ClientRateLimiter} to API requests and answers throttled ones with 429 and a
+ * {@code Retry-After} header. Runs before {@link DbAdmissionInterceptor} so throttled clients never
+ * queue for a database permit.
+ */
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitInterceptor.class);
+
+    /** Upper bound for {@code Retry-After}, also used for buckets that never refill. */
+    static final long MAX_RETRY_AFTER_SECONDS = 3600;
+
+    @Autowired
+    private ClientRateLimiter rateLimiter;
+
+    private final TrustedProxies trustedProxies;
+
+    public RateLimitInterceptor(@Value("${app.rate-limit.trusted-proxies:}") String trustedProxies) {
+        this.trustedProxies = new TrustedProxies(trustedProxies);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        if (!rateLimiter.isEnabled() || endpointClass == null) {
+            return true;
+        }
+
+        String clientId = resolveClientId(request);
+        long waitNanos = rateLimiter.tryAcquire(clientId, endpointClass);
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        long retryAfterSeconds = retryAfterSeconds(waitNanos);
+        logger.debug("Rate limit exceeded for client {} on {} {}", clientId, endpointClass, request.getRequestURI());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too many requests, please retry after " + retryAfterSeconds + " seconds");
+        return false;
+    }
+
+    /** Rounds the wait up to whole seconds, between 1 and {@link #MAX_RETRY_AFTER_SECONDS}. */
+    static long retryAfterSeconds(long waitNanos) {
+        long maxNanos = TimeUnit.SECONDS.toNanos(MAX_RETRY_AFTER_SECONDS);
+        long seconds = Math.ceilDiv(Math.min(Math.max(waitNanos, 0), maxNanos), TimeUnit.SECONDS.toNanos(1));
+        return Math.max(1, seconds);
+    }
+
+    /**
+     * Identifies the client by its address. Forwarding headers are only read when the connection
+     * comes from a trusted proxy; {@code X-Forwarded-For} is walked from the right, skipping further
+     * trusted hops, so entries the client prepended itself are never used.
+     */
+    String resolveClientId(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            String[] hops = forwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                    return hop;
+                }
+            }
+        }
+        String realIp = request.getHeader("X-Real-IP");
+        if (realIp != null && !realIp.isBlank()) {
+            return realIp.trim();
+        }
+        return remoteAddr;
+    }
+}
@@ -0,0 +1,122 @@
+package com.iitb.coursemanagement.admission;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Addresses and CIDR ranges of reverse proxies whose {@code X-Real-IP} / {@code X-Forwarded-For}
+ * headers may be believed, e.g. {@code 172.28.0.10,10.0.0.0/8}. Everyone else could forge them.
+ */
+class TrustedProxies {
+
+    private record Range(byte[] network, int prefixLength) {
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = (0xFF << (8 - remainingBits)) & 0xFF;
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+
+    private final List<Range> ranges = new ArrayList<>();
+
+    /**
+     * @param spec comma-separated IP addresses or CIDR ranges; blank trusts nobody
+     * @throws IllegalArgumentException if an entry is not an IP literal or CIDR range
+     */
+    TrustedProxies(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return;
+        }
+        for (String entry : spec.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int slash = trimmed.indexOf('/');
+            byte[] network = parse(slash < 0 ? trimmed : trimmed.substring(0, slash));
+            if (network == null) {
+                throw new IllegalArgumentException("Not an IP address or CIDR range: " + trimmed);
+            }
+            int prefixLength = network.length * 8;
+            if (slash >= 0) {
+                try {
+                    prefixLength = Integer.parseInt(trimmed.substring(slash + 1));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid CIDR prefix: " + trimmed);
+                }
+                if (prefixLength < 0 || prefixLength > network.length * 8) {
+                    throw new IllegalArgumentException("Invalid CIDR prefix: " + trimmed);
+                }
+            }
+            ranges.add(new Range(network, prefixLength));
+        }
+    }
+
+    boolean isEmpty() {
+        return ranges.isEmpty();
+    }
+
+    boolean contains(String address) {
+        if (ranges.isEmpty()) {
+            return false;
+        }
+        byte[] bytes = parse(address);
+        return bytes != null && ranges.stream().anyMatch(range -> range.contains(bytes));
+    }
+
+    /**
+     * Parses an IP literal without ever falling back to a DNS lookup.
+     *
+     * @return the address bytes, or null if {@code address} is not an IP literal
+     */
+    static byte[] parse(String address) {
+        if (address == null || address.isEmpty()) {
+            return null;
+        }
+        String literal = address.startsWith("[") && address.endsWith("]")
+            ? address.substring(1, address.length() - 1)
+            : address;
+        boolean ipv6 = literal.indexOf(':') >= 0;
+        for (int i = 0; i < literal.length(); i++) {
+            char c = literal.charAt(i);
+            boolean allowed = Character.digit(c, 16) >= 0 || c == '.' || c == ':' || (ipv6 && c == '%');
+            if (!allowed || (!ipv6 && Character.digit(c, 10) < 0 && c != '.')) {
+                return null;
+            }
+        }
+        if (!ipv6 && literal.chars().filter(c -> c == '.').count() != 3) {
+            return null;
+        }
+        try {
+            byte[] bytes = InetAddress.getByName(literal).getAddress();
+            return bytes.length == 16 && isIpv4Mapped(bytes) ? Arrays.copyOfRange(bytes, 12, 16) : bytes;
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private static boolean isIpv4Mapped(byte[] bytes) {
+        for (int i = 0; i < 10; i++) {
+            if (bytes[i] != 0) {
+                return false;
+            }
+        }
+        return bytes[10] == (byte) 0xFF && bytes[11] == (byte) 0xFF;
+    }
+}
@@ -0,0 +1,18 @@
+package com.iitb.coursemanagement.config;
+
+import com.iitb.coursemanagement.service.CatalogChangeInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer catalogChangeInterceptorCustomizer(CatalogChangeInterceptor interceptor) {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.INTERCEPTOR, interceptor);
+    }
+}
\ No newline at end of file
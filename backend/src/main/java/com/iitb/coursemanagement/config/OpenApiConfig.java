@@ -33,7 +33,13 @@ public class OpenApiConfig {
                     .description("APIs for managing courses and their prerequisites"),
                 new Tag()
                     .name("Course Instance Management")
-                    .description("APIs for managing course instances and their schedules")
+                    .description("APIs for managing course instances and their schedules"),
+                new Tag()
+                    .name("Catalog Transfer")
+                    .description("APIs for bulk export and import of the whole catalog"),
+                new Tag()
+                    .name("Profiling")
+                    .description("APIs for on-demand Java Flight Recorder profiling")
             ));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.iitb.coursemanagement.config;
+
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Applies {@code spring.threads.virtual.enabled} to Tomcat when the server starts, not when the
+ * context is built. Spring Boot's own customizer sits behind a bean condition that AOT processing
+ * evaluates at build time, so the fast-start image would otherwise ignore VIRTUAL_THREADS_ENABLED.
+ */
+@Configuration
+public class VirtualThreadsConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadsConfig.class);
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadsTomcatCustomizer(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled) {
+        return factory -> {
+            if (virtualThreadsEnabled) {
+                logger.info("Serving requests on virtual threads");
+                factory.addProtocolHandlerCustomizers(
+                    handler -> handler.setExecutor(new VirtualThreadExecutor("tomcat-handler-")));
+            }
+        };
+    }
+}
@@ -1,12 +1,40 @@
 package com.iitb.coursemanagement.config;
 
+import com.iitb.coursemanagement.admission.DbAdmissionInterceptor;
+import com.iitb.coursemanagement.admission.RateLimitInterceptor;
+import com.iitb.coursemanagement.profiling.ControllerOperationInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Autowired
+    private ControllerOperationInterceptor controllerOperationInterceptor;
+
+    @Autowired
+    private RateLimitInterceptor rateLimitInterceptor;
+
+    @Autowired
+    private DbAdmissionInterceptor dbAdmissionInterceptor;
+
+    /**
+     * Strong ETags from an MD5 of the semester view body; answers matching If-None-Match with 304.
+     */
+    @Bean
+    public FilterRegistrationBean<ShallowEtagHeaderFilter> semesterViewEtagFilter() {
+        FilterRegistrationBean<ShallowEtagHeaderFilter> registration =
+            new FilterRegistrationBean<>(new ShallowEtagHeaderFilter());
+        registration.addUrlPatterns("/api/semesters/*");
+        return registration;
+    }
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -15,4 +43,15 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*")
                 .allowCredentials(true);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(controllerOperationInterceptor)
+                .addPathPatterns("/api/**");
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns("/api/courses/**", "/api/instances/**", "/api/semesters/**", "/api/catalog/**");
+        // Catalog transfers run for minutes at client speed; they must not hold one of the shared permits
+        registry.addInterceptor(dbAdmissionInterceptor)
+                .addPathPatterns("/api/courses/**", "/api/instances/**", "/api/semesters/**");
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.iitb.coursemanagement.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Access check for operator-only endpoints: they answer 404 unless switched on, and once on they
+ * require the configured token in the {@value #TOKEN_HEADER} header. Switching an endpoint on without
+ * a token is refused at startup rather than leaving it open.
+ */
+final class AdminEndpointGuard {
+
+    static final String TOKEN_HEADER = "X-Admin-Token";
+
+    private final boolean enabled;
+    private final byte[] token;
+
+    /**
+     * @throws IllegalStateException if {@code enabled} is true but no token is configured
+     */
+    AdminEndpointGuard(boolean enabled, String enabledProperty, String token, String tokenProperty) {
+        if (enabled && (token == null || token.isBlank())) {
+            throw new IllegalStateException(enabledProperty + "=true requires " + tokenProperty + " to be set");
+        }
+        this.enabled = enabled;
+        this.token = enabled ? token.getBytes(StandardCharsets.UTF_8) : new byte[0];
+    }
+
+    void check(String presentedToken) {
+        if (!enabled) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        // Constant-time comparison so response timing does not reveal how much of the token matched
+        if (presentedToken == null
+                || !MessageDigest.isEqual(token, presentedToken.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN);
+        }
+    }
+}
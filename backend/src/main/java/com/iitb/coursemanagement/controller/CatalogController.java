@@ -0,0 +1,145 @@
+package com.iitb.coursemanagement.controller;
+
+import com.iitb.coursemanagement.transfer.CatalogExporter;
+import com.iitb.coursemanagement.transfer.CatalogFormat;
+import com.iitb.coursemanagement.transfer.CatalogImportResult;
+import com.iitb.coursemanagement.transfer.CatalogImporter;
+import com.iitb.coursemanagement.transfer.CatalogTable;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+@RestController
+@RequestMapping("/api/catalog")
+@Tag(name = "Catalog Transfer", description = "APIs for bulk export and import of the whole catalog")
+public class CatalogController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogController.class);
+
+    @Autowired
+    private CatalogExporter exporter;
+
+    @Autowired
+    private CatalogImporter importer;
+
+    @Value("${app.catalog.http-enabled:false}")
+    private boolean httpEnabled;
+
+    @Value("${app.catalog.admin-token:}")
+    private String adminToken;
+
+    private AdminEndpointGuard guard;
+
+    // The whole catalog can be dumped or replaced here, so HTTP access is off unless an operator enables it
+    @PostConstruct
+    void initGuard() {
+        guard = new AdminEndpointGuard(httpEnabled, "app.catalog.http-enabled", adminToken, "app.catalog.admin-token");
+    }
+
+    @Operation(
+        summary = "Export catalog snapshot",
+        description = "Streams courses, prerequisite edges and instances as NDJSON, one record per line tagged with its table"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Snapshot stream"),
+        @ApiResponse(responseCode = "403", description = "Missing or wrong X-Admin-Token"),
+        @ApiResponse(responseCode = "404", description = "HTTP catalog transfer is disabled")
+    })
+    @GetMapping("/export")
+    public void exportSnapshot(
+            @RequestHeader(value = AdminEndpointGuard.TOKEN_HEADER, required = false) String token,
+            HttpServletResponse response) throws IOException {
+        guard.check(token);
+        prepareDownload(response, CatalogFormat.NDJSON, "catalog.ndjson");
+        exporter.exportSnapshot(response.getOutputStream());
+    }
+
+    @Operation(
+        summary = "Export catalog table",
+        description = "Streams one table (courses, prerequisites or instances) as CSV or NDJSON"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Table stream"),
+        @ApiResponse(responseCode = "400", description = "Unknown table or format"),
+        @ApiResponse(responseCode = "403", description = "Missing or wrong X-Admin-Token"),
+        @ApiResponse(responseCode = "404", description = "HTTP catalog transfer is disabled")
+    })
+    @GetMapping("/export/{table}")
+    public void exportTable(
+            @PathVariable String table,
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = AdminEndpointGuard.TOKEN_HEADER, required = false) String token,
+            HttpServletResponse response) throws IOException {
+        guard.check(token);
+        CatalogTable catalogTable;
+        CatalogFormat catalogFormat;
+        try {
+            catalogTable = CatalogTable.fromKey(table);
+            catalogFormat = CatalogFormat.fromKey(format);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+
+        prepareDownload(response, catalogFormat, catalogTable.getKey() + "." + catalogFormat.name().toLowerCase());
+        exporter.exportTable(catalogTable, catalogFormat, response.getOutputStream());
+    }
+
+    @Operation(
+        summary = "Import catalog snapshot",
+        description = "Replaces the whole catalog with an NDJSON snapshot as produced by the export endpoint"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Snapshot imported"),
+        @ApiResponse(responseCode = "400", description = "Malformed snapshot; the existing catalog is left unchanged"),
+        @ApiResponse(responseCode = "403", description = "Missing or wrong X-Admin-Token"),
+        @ApiResponse(responseCode = "404", description = "HTTP catalog transfer is disabled")
+    })
+    @PostMapping("/import")
+    public ResponseEntity<?> importSnapshot(
+            @RequestHeader(value = AdminEndpointGuard.TOKEN_HEADER, required = false) String token,
+            HttpServletRequest request) throws IOException {
+        guard.check(token);
+        // Receive the whole upload before opening the write transaction, so a slow client cannot
+        // hold the database write lock
+        Path upload = Files.createTempFile("catalog-import-", ".ndjson");
+        try {
+            Files.copy(request.getInputStream(), upload, StandardCopyOption.REPLACE_EXISTING);
+            try (InputStream in = Files.newInputStream(upload)) {
+                CatalogImportResult result = importer.importSnapshot(in);
+                return ResponseEntity.ok(result);
+            }
+        } catch (Exception e) {
+            logger.error("Error importing catalog snapshot", e);
+            return ResponseEntity.badRequest().body("Failed to import catalog snapshot: " + e.getMessage());
+        } finally {
+            Files.deleteIfExists(upload);
+        }
+    }
+
+    private void prepareDownload(HttpServletResponse response, CatalogFormat format, String filename) {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(filename).build().toString());
+    }
+}
@@ -2,6 +2,7 @@ package com.iitb.coursemanagement.controller;
 
 import com.iitb.coursemanagement.model.Course;
 import com.iitb.coursemanagement.repository.CourseRepository;
+import com.iitb.coursemanagement.snapshot.WarmCatalog;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -31,6 +32,9 @@ public class CourseController {
     
     @Autowired
     private CourseRepository courseRepository;
+
+    @Autowired
+    private WarmCatalog warmCatalog;
     
     @Operation(
         summary = "Create a new course",
@@ -111,7 +115,7 @@ public class CourseController {
     @GetMapping
     public ResponseEntity<List<Course>> getAllCourses() {
         try {
-            List<Course> courses = courseRepository.findAll();
+            List<Course> courses = warmCatalog.courses().orElseGet(courseRepository::findAll);
             return ResponseEntity.ok(courses);
         } catch (Exception e) {
             logger.error("Error retrieving courses", e);
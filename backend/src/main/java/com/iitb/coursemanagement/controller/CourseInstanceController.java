@@ -4,6 +4,7 @@ import com.iitb.coursemanagement.model.Course;
 import com.iitb.coursemanagement.model.CourseInstance;
 import com.iitb.coursemanagement.repository.CourseInstanceRepository;
 import com.iitb.coursemanagement.repository.CourseRepository;
+import com.iitb.coursemanagement.snapshot.WarmCatalog;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -29,6 +30,9 @@ public class CourseInstanceController {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private WarmCatalog warmCatalog;
+
     @Operation(
         summary = "Create a course instance",
         description = "Creates a new instance of a course delivery for a specific year and semester"
@@ -110,7 +114,8 @@ public class CourseInstanceController {
             return ResponseEntity.badRequest().build();
         }
 
-        List<CourseInstance> instances = instanceRepository.findByYearAndSemester(year, semester);
+        List<CourseInstance> instances = warmCatalog.instances(year, semester)
+            .orElseGet(() -> instanceRepository.findByYearAndSemester(year, semester));
         return ResponseEntity.ok(instances);
     }
 
@@ -0,0 +1,119 @@
+package com.iitb.coursemanagement.controller;
+
+import com.iitb.coursemanagement.profiling.ProfilingPreset;
+import com.iitb.coursemanagement.profiling.RecordingManager;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@RestController
+@RequestMapping("/api/admin/profiling")
+@Tag(name = "Profiling", description = "APIs for on-demand Java Flight Recorder profiling")
+public class ProfilingController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfilingController.class);
+
+    @Autowired
+    private RecordingManager recordingManager;
+
+    @Value("${app.profiling.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.profiling.admin-token:}")
+    private String adminToken;
+
+    private AdminEndpointGuard guard;
+
+    @PostConstruct
+    void initGuard() {
+        guard = new AdminEndpointGuard(enabled, "app.profiling.enabled", adminToken, "app.profiling.admin-token");
+    }
+
+    @Operation(
+        summary = "Get recording status",
+        description = "Reports whether a JFR recording exists and which preset it uses"
+    )
+    @GetMapping
+    public ResponseEntity<RecordingManager.Status> getStatus(
+            @RequestHeader(value = AdminEndpointGuard.TOKEN_HEADER, required = false) String token) {
+        guard.check(token);
+        return ResponseEntity.ok(recordingManager.status());
+    }
+
+    @Operation(
+        summary = "Start recording",
+        description = "Starts a JFR recording with a preset profile: cpu, allocation, locks or jdbc. " +
+                      "The recording stops by itself after durationSeconds."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recording started"),
+        @ApiResponse(responseCode = "400", description = "Unknown preset or non-positive durationSeconds"),
+        @ApiResponse(responseCode = "409", description = "A recording already exists")
+    })
+    @PostMapping("/start")
+    public ResponseEntity<?> startRecording(
+            @RequestParam(defaultValue = "cpu") String preset,
+            @RequestParam(required = false) Long durationSeconds,
+            @RequestHeader(value = AdminEndpointGuard.TOKEN_HEADER, required = false) String token) {
+        guard.check(token);
+        try {
+            return ResponseEntity.ok(recordingManager.start(ProfilingPreset.fromKey(preset), durationSeconds));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error starting JFR recording", e);
+            return ResponseEntity.internalServerError().body("Failed to start recording: " + e.getMessage());
+        }
+    }
+
+    @Operation(
+        summary = "Stop recording",
+        description = "Stops the current recording and streams it back as a .jfr file"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recording file"),
+        @ApiResponse(responseCode = "409", description = "No recording has been started")
+    })
+    @PostMapping("/stop")
+    public void stopRecording(
+            @RequestHeader(value = AdminEndpointGuard.TOKEN_HEADER, required = false) String token,
+            HttpServletResponse response) throws IOException {
+        guard.check(token);
+        Path file;
+        try {
+            file = recordingManager.stop();
+        } catch (IllegalStateException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, e.getMessage());
+        }
+
+        try {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setContentLengthLong(Files.size(file));
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(file.getFileName().toString()).build().toString());
+            Files.copy(file, response.getOutputStream());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.iitb.coursemanagement.controller;
+
+import com.iitb.coursemanagement.dto.SemesterView;
+import com.iitb.coursemanagement.service.SemesterViewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/semesters")
+@Tag(name = "Course Instance Management", description = "APIs for managing course instances")
+@CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
+public class SemesterController {
+
+    @Autowired
+    private SemesterViewService semesterViewService;
+
+    @Operation(
+        summary = "Get semester view",
+        description = "Retrieves all course instances for a year and semester together with each referenced course once. " +
+                      "Instances reference courses by courseId; prerequisites are listed as course IDs."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Semester view"),
+        @ApiResponse(responseCode = "304", description = "Semester view unchanged since the supplied ETag"),
+        @ApiResponse(responseCode = "400", description = "Invalid year or semester")
+    })
+    @GetMapping(
+        value = "/{year}/{semester}",
+        produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    public ResponseEntity<SemesterView> getSemesterView(
+            @PathVariable Integer year,
+            @PathVariable Integer semester) {
+
+        // Validate year and semester
+        if (year < 2000 || year > 2100 || (semester != 1 && semester != 2)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // ETag and If-None-Match are handled by the semesterViewEtagFilter registered in WebConfig
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .body(semesterViewService.getSemesterView(year, semester));
+    }
+}
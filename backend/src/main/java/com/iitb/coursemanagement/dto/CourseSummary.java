@@ -0,0 +1,15 @@
+package com.iitb.coursemanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A course with its prerequisites flattened to course codes.
+ */
+public record CourseSummary(Long id, String courseId, String title, String description, List<String> prerequisites) {
+
+    // Used by JPQL constructor expressions; prerequisites are filled in from a separate edge query
+    public CourseSummary(Long id, String courseId, String title, String description) {
+        this(id, courseId, title, description, new ArrayList<>());
+    }
+}
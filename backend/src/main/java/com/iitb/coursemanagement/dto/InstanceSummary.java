@@ -0,0 +1,8 @@
+package com.iitb.coursemanagement.dto;
+
+/**
+ * A course instance without the embedded course details; clients resolve {@code courseId}
+ * against the courses sent alongside it.
+ */
+public record InstanceSummary(Long id, String courseId, Integer year, Integer semester, String instructor) {
+}
@@ -0,0 +1,9 @@
+package com.iitb.coursemanagement.dto;
+
+import java.util.List;
+
+/**
+ * Everything the frontend needs to render one semester: its instances and each referenced course exactly once.
+ */
+public record SemesterView(Integer year, Integer semester, List<CourseSummary> courses, List<InstanceSummary> instances) {
+}
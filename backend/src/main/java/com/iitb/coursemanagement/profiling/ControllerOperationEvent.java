@@ -0,0 +1,30 @@
+package com.iitb.coursemanagement.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(ControllerOperationEvent.NAME)
+@Label("Controller Operation")
+@Description("One HTTP request handled by a course management controller")
+@Category({"Course Management", "HTTP"})
+@StackTrace(false)
+class ControllerOperationEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.iitb.coursemanagement.ControllerOperation";
+
+    @Label("Operation")
+    @Description("Controller class and method, e.g. CourseController.getAllCourses")
+    String operation;
+
+    @Label("HTTP Method")
+    String httpMethod;
+
+    @Label("Path Pattern")
+    String pathPattern;
+
+    @Label("Status")
+    int status;
+}
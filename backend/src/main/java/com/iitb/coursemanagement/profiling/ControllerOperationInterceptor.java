@@ -0,0 +1,48 @@
+package com.iitb.coursemanagement.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Emits a {@link ControllerOperationEvent} spanning each API request. When no recording has the
+ * event enabled, this costs one flag check per request.
+ */
+@Component
+public class ControllerOperationInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = ControllerOperationInterceptor.class.getName() + ".EVENT";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ControllerOperationEvent event = new ControllerOperationEvent();
+        if (event.isEnabled() && request.getAttribute(EVENT_ATTRIBUTE) == null) {
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (!(request.getAttribute(EVENT_ATTRIBUTE) instanceof ControllerOperationEvent event)) {
+            return;
+        }
+        request.removeAttribute(EVENT_ATTRIBUTE);
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = handler instanceof HandlerMethod method
+                ? method.getBeanType().getSimpleName() + "." + method.getMethod().getName()
+                : handler.getClass().getSimpleName();
+            event.httpMethod = request.getMethod();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            event.pathPattern = pattern != null ? pattern.toString() : request.getRequestURI();
+            event.status = response.getStatus();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.iitb.coursemanagement.profiling;
+
+import jdk.jfr.Configuration;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * JFR settings for the recordings that can be started from {@link ProfilingController}. Each preset
+ * starts from the JDK's "default" configuration, which is cheap enough for production, and turns up
+ * the events relevant to one question. The course management events are always recorded.
+ */
+public enum ProfilingPreset {
+
+    CPU(Map.of(
+        "jdk.ExecutionSample#enabled", "true",
+        "jdk.ExecutionSample#period", "10 ms",
+        "jdk.NativeMethodSample#enabled", "true",
+        "jdk.NativeMethodSample#period", "20 ms")),
+
+    ALLOCATION(Map.of(
+        "jdk.ObjectAllocationSample#enabled", "true",
+        "jdk.ObjectAllocationSample#throttle", "300/s",
+        "jdk.ObjectAllocationInNewTLAB#enabled", "true",
+        "jdk.ObjectAllocationOutsideTLAB#enabled", "true",
+        "jdk.GCHeapSummary#enabled", "true")),
+
+    LOCKS(Map.of(
+        "jdk.JavaMonitorEnter#enabled", "true",
+        "jdk.JavaMonitorEnter#threshold", "1 ms",
+        "jdk.JavaMonitorWait#enabled", "true",
+        "jdk.JavaMonitorWait#threshold", "1 ms",
+        "jdk.ThreadPark#enabled", "true",
+        "jdk.ThreadPark#threshold", "1 ms")),
+
+    // SQLite runs in-process, so database time shows up as file I/O on the database file
+    JDBC(Map.of(
+        RepositoryCallEvent.NAME + "#stackTrace", "true",
+        "jdk.FileRead#enabled", "true",
+        "jdk.FileRead#threshold", "1 ms",
+        "jdk.FileWrite#enabled", "true",
+        "jdk.FileWrite#threshold", "1 ms",
+        "jdk.FileForce#enabled", "true",
+        "jdk.FileForce#threshold", "1 ms",
+        "jdk.ThreadPark#threshold", "1 ms"));
+
+    private final Map<String, String> overrides;
+
+    ProfilingPreset(Map<String, String> overrides) {
+        this.overrides = overrides;
+    }
+
+    Map<String, String> settings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        settings.put(ControllerOperationEvent.NAME + "#enabled", "true");
+        settings.put(ControllerOperationEvent.NAME + "#threshold", "0 ms");
+        settings.put(RepositoryCallEvent.NAME + "#enabled", "true");
+        settings.put(RepositoryCallEvent.NAME + "#threshold", "0 ms");
+        settings.put(RepositoryCallEvent.NAME + "#stackTrace", "false");
+        settings.putAll(overrides);
+        return settings;
+    }
+
+    public static ProfilingPreset fromKey(String key) {
+        try {
+            return valueOf(key.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown profiling preset: " + key);
+        }
+    }
+}
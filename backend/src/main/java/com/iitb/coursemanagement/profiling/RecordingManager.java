@@ -0,0 +1,105 @@
+package com.iitb.coursemanagement.profiling;
+
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Owns the single on-demand JFR recording. Only one recording may be active at a time; a recording
+ * that is never stopped ends on its own after its maximum duration and is kept until collected.
+ */
+@Component
+public class RecordingManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordingManager.class);
+
+    /** Snapshot of the current recording for the status endpoint. */
+    public record Status(boolean active, String preset, String state, Instant startTime, Duration maxDuration) {
+    }
+
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+
+    private Recording recording;
+    private ProfilingPreset preset;
+
+    public RecordingManager(
+            @Value("${app.profiling.default-duration-seconds:60}") long defaultDurationSeconds,
+            @Value("${app.profiling.max-duration-seconds:600}") long maxDurationSeconds) {
+        this.defaultDuration = Duration.ofSeconds(defaultDurationSeconds);
+        this.maxDuration = Duration.ofSeconds(maxDurationSeconds);
+    }
+
+    /**
+     * @param durationSeconds how long to record before stopping automatically, or null for the default;
+     *                        capped at {@code app.profiling.max-duration-seconds}
+     * @throws IllegalArgumentException if {@code durationSeconds} is not positive
+     * @throws IllegalStateException if a recording already exists
+     */
+    public synchronized Status start(ProfilingPreset preset, Long durationSeconds) throws IOException, ParseException {
+        if (durationSeconds != null && durationSeconds <= 0) {
+            throw new IllegalArgumentException("durationSeconds must be positive");
+        }
+        if (recording != null) {
+            throw new IllegalStateException("A " + this.preset + " recording already exists; stop it first");
+        }
+        Duration duration = durationSeconds != null ? Duration.ofSeconds(durationSeconds) : defaultDuration;
+        if (duration.compareTo(maxDuration) > 0) {
+            duration = maxDuration;
+        }
+
+        Recording newRecording = new Recording(preset.settings());
+        newRecording.setName("course-management-" + preset.name().toLowerCase());
+        newRecording.setToDisk(true);
+        newRecording.setDuration(duration);
+        newRecording.start();
+
+        this.recording = newRecording;
+        this.preset = preset;
+        logger.info("Started {} JFR recording for at most {}", preset, duration);
+        return status();
+    }
+
+    /**
+     * Stops the recording if it is still running and writes it to a temporary file.
+     * The caller owns the returned file and must delete it.
+     *
+     * @throws IllegalStateException if there is no recording
+     */
+    public synchronized Path stop() throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("No recording has been started");
+        }
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path file = Files.createTempFile("course-management-" + preset.name().toLowerCase() + "-", ".jfr");
+            recording.dump(file);
+            logger.info("Stopped {} JFR recording, {} bytes", preset, Files.size(file));
+            return file;
+        } finally {
+            recording.close();
+            recording = null;
+            preset = null;
+        }
+    }
+
+    public synchronized Status status() {
+        if (recording == null) {
+            return new Status(false, null, null, null, null);
+        }
+        return new Status(recording.getState() == RecordingState.RUNNING, preset.name(),
+            recording.getState().name(), recording.getStartTime(), recording.getDuration());
+    }
+}
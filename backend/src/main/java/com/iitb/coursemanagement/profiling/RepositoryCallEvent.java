@@ -0,0 +1,24 @@
+package com.iitb.coursemanagement.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(RepositoryCallEvent.NAME)
+@Label("Repository Call")
+@Description("One call to a Spring Data repository method")
+@Category({"Course Management", "Database"})
+class RepositoryCallEvent extends jdk.jfr.Event {
+
+    static final String NAME = "com.iitb.coursemanagement.RepositoryCall";
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -1,7 +1,10 @@
 package com.iitb.coursemanagement.repository;
 
+import com.iitb.coursemanagement.dto.InstanceSummary;
 import com.iitb.coursemanagement.model.CourseInstance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,8 @@ import java.util.Optional;
 public interface CourseInstanceRepository extends JpaRepository<CourseInstance, Long> {
     List<CourseInstance> findByYearAndSemester(Integer year, Integer semester);
     Optional<CourseInstance> findByYearAndSemesterAndCourseId(Integer year, Integer semester, String courseId);
+
+    @Query("select new com.iitb.coursemanagement.dto.InstanceSummary(i.id, i.courseId, i.year, i.semester, i.instructor) " +
+           "from CourseInstance i where i.year = :year and i.semester = :semester order by i.courseId")
+    List<InstanceSummary> findSummariesByYearAndSemester(@Param("year") Integer year, @Param("semester") Integer semester);
 } 
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.iitb.coursemanagement.repository;
 
+import com.iitb.coursemanagement.dto.CourseSummary;
 import com.iitb.coursemanagement.model.Course;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +16,18 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     Optional<Course> findByCourseId(String courseId);
     List<Course> findByCourseIdIn(Set<String> courseIds);
     List<Course> findByPrerequisitesContaining(Course course);
+
+    // Scalar projections below skip the eager prerequisite graph, which would otherwise cost one select per course
+
+    @Query("select new com.iitb.coursemanagement.dto.CourseSummary(c.id, c.courseId, c.title, c.description) " +
+           "from Course c where c.id in " +
+           "(select i.course.id from CourseInstance i where i.year = :year and i.semester = :semester) " +
+           "order by c.courseId")
+    List<CourseSummary> findSummariesOfferedIn(@Param("year") Integer year, @Param("semester") Integer semester);
+
+    /** @return [courseId, prerequisiteCourseId] pairs for every course offered in the semester */
+    @Query("select c.courseId, p.courseId from Course c join c.prerequisites p where c.id in " +
+           "(select i.course.id from CourseInstance i where i.year = :year and i.semester = :semester) " +
+           "order by c.courseId, p.courseId")
+    List<Object[]> findPrerequisiteEdgesOfferedIn(@Param("year") Integer year, @Param("semester") Integer semester);
 } 
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.iitb.coursemanagement.service;
+
+import com.iitb.coursemanagement.model.Course;
+import com.iitb.coursemanagement.model.CourseInstance;
+import org.hibernate.Interceptor;
+import org.hibernate.type.Type;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Session-factory wide Hibernate interceptor that invalidates the semester view cache after any
+ * transaction that inserts, updates or deletes a course, an instance or a prerequisite link,
+ * whichever controller, service or job issued the write.
+ */
+@Component
+public class CatalogChangeInterceptor implements Interceptor {
+
+    private final SemesterViewCacheInvalidator invalidator;
+
+    public CatalogChangeInterceptor(@Lazy SemesterViewCacheInvalidator invalidator) {
+        this.invalidator = invalidator;
+    }
+
+    @Override
+    public boolean onSave(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        onChange(entity);
+        return false;
+    }
+
+    @Override
+    public boolean onFlushDirty(Object entity, Object id, Object[] currentState, Object[] previousState,
+                                String[] propertyNames, Type[] types) {
+        onChange(entity);
+        return false;
+    }
+
+    @Override
+    public void onDelete(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        onChange(entity);
+    }
+
+    @Override
+    public void onCollectionRecreate(Object collection, Object key) {
+        invalidator.invalidateAfterCommit();
+    }
+
+    @Override
+    public void onCollectionRemove(Object collection, Object key) {
+        invalidator.invalidateAfterCommit();
+    }
+
+    @Override
+    public void onCollectionUpdate(Object collection, Object key) {
+        invalidator.invalidateAfterCommit();
+    }
+
+    private void onChange(Object entity) {
+        if (entity instanceof Course || entity instanceof CourseInstance) {
+            invalidator.invalidateAfterCommit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.iitb.coursemanagement.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Clears the semester view cache once a write has committed, and counts those clears so a view that
+ * was read before the commit is never stored after it (see {@link SemesterViewService}).
+ */
+@Component
+public class SemesterViewCacheInvalidator {
+
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    public Cache cache() {
+        return cacheManager.getCache(SemesterViewService.CACHE_NAME);
+    }
+
+    /**
+     * @return a counter that changes every time the cache is invalidated
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Invalidates the cache when the current transaction commits, or immediately if there is none.
+     * Safe to call many times per transaction; only one invalidation is registered.
+     */
+    public void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(SemesterViewCacheInvalidator.this);
+                if (status == STATUS_COMMITTED) {
+                    invalidate();
+                }
+            }
+        });
+    }
+
+    private void invalidate() {
+        // Bump first: a reader that stores its view after the clear below must see the new generation
+        generation.incrementAndGet();
+        cache().clear();
+    }
+}
@@ -0,0 +1,86 @@
+package com.iitb.coursemanagement.service;
+
+import com.iitb.coursemanagement.dto.CourseSummary;
+import com.iitb.coursemanagement.dto.InstanceSummary;
+import com.iitb.coursemanagement.dto.SemesterView;
+import com.iitb.coursemanagement.repository.CourseInstanceRepository;
+import com.iitb.coursemanagement.repository.CourseRepository;
+import com.iitb.coursemanagement.snapshot.WarmCatalog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the normalized semester view from the {@link WarmCatalog} when it is current, and otherwise
+ * from three queries regardless of how many instances or prerequisites the semester has: instances,
+ * offered courses, and prerequisite edges.
+ */
+@Service
+public class SemesterViewService {
+
+    /**
+     * Cleared after every committed course or instance write, since either can change any semester's
+     * view; entries also expire after {@code spring.cache.caffeine.spec} to pick up writes made
+     * outside this application.
+     */
+    public static final String CACHE_NAME = "semesterView";
+
+    @Autowired
+    private CourseInstanceRepository instanceRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private SemesterViewCacheInvalidator cacheInvalidator;
+
+    @Autowired
+    private WarmCatalog warmCatalog;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SemesterViewService(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public SemesterView getSemesterView(Integer year, Integer semester) {
+        Cache cache = cacheInvalidator.cache();
+        SimpleKey key = new SimpleKey(year, semester);
+        SemesterView cached = cache.get(key, SemesterView.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = cacheInvalidator.generation();
+        SemesterView view = warmCatalog.semesterView(year, semester)
+            .orElseGet(() -> readOnlyTransaction.execute(status -> loadSemesterView(year, semester)));
+        cache.put(key, view);
+        // A write committed while we were reading: our view may predate it, so don't keep it
+        if (cacheInvalidator.generation() != generation) {
+            cache.evict(key);
+        }
+        return view;
+    }
+
+    private SemesterView loadSemesterView(Integer year, Integer semester) {
+        List<InstanceSummary> instances = instanceRepository.findSummariesByYearAndSemester(year, semester);
+        List<CourseSummary> courses = courseRepository.findSummariesOfferedIn(year, semester);
+
+        Map<String, CourseSummary> coursesById = courses.stream()
+            .collect(Collectors.toMap(CourseSummary::courseId, Function.identity()));
+        for (Object[] edge : courseRepository.findPrerequisiteEdgesOfferedIn(year, semester)) {
+            coursesById.get((String) edge[0]).prerequisites().add((String) edge[1]);
+        }
+
+        return new SemesterView(year, semester, courses, instances);
+    }
+}
@@ -0,0 +1,235 @@
+package com.iitb.coursemanagement.snapshot;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Immutable, array-based copy of the catalog tables together with the {@link DatabaseVersion} it was
+ * read at. Prerequisites are stored as a CSR adjacency list over course indexes, and instances are
+ * sorted by (year, semester, id) so each semester is a contiguous range.
+ *
+ * Binary layout (big-endian), version 2:
+ * <pre>
+ * magic "CMCS", version, changeCounter, pageCount, schemaCookie, courseCount, edgeCount, instanceCount, semesterCount
+ * courses:    courseCount x (long id, str courseId, str title, str description)
+ * prereqs:    int[courseCount + 1] offsets, int[edgeCount] target course indexes
+ * instances:  instanceCount x (long id, int courseIndex, str courseCode, int year, int semester, str instructor)
+ * semesters:  semesterCount x (int year, int semester, int firstInstance), int instanceCount
+ * checksum:   long CRC32 of everything above
+ * </pre>
+ * Strings are an int byte length (-1 for null) followed by UTF-8 bytes.
+ */
+final class CatalogSnapshot {
+
+    static final int MAGIC = 0x434D4353; // "CMCS"
+    static final int FORMAT_VERSION = 2;
+
+    final DatabaseVersion databaseVersion;
+
+    final long[] courseIds;
+    final String[] courseCodes;
+    final String[] titles;
+    final String[] descriptions;
+
+    final int[] prerequisiteOffsets;
+    final int[] prerequisiteTargets;
+
+    final long[] instanceIds;
+    /** Index into the course arrays, or -1 if the instance references a missing course. */
+    final int[] instanceCourses;
+    final String[] instanceCourseCodes;
+    final int[] instanceYears;
+    final int[] instanceSemesters;
+    final String[] instructors;
+
+    final int[] semesterYears;
+    final int[] semesterNumbers;
+    /** Length semesterCount + 1; semester i covers instances [semesterStarts[i], semesterStarts[i + 1]). */
+    final int[] semesterStarts;
+
+    CatalogSnapshot(DatabaseVersion databaseVersion,
+                    long[] courseIds, String[] courseCodes, String[] titles, String[] descriptions,
+                    int[] prerequisiteOffsets, int[] prerequisiteTargets,
+                    long[] instanceIds, int[] instanceCourses, String[] instanceCourseCodes,
+                    int[] instanceYears, int[] instanceSemesters, String[] instructors,
+                    int[] semesterYears, int[] semesterNumbers, int[] semesterStarts) {
+        this.databaseVersion = databaseVersion;
+        this.courseIds = courseIds;
+        this.courseCodes = courseCodes;
+        this.titles = titles;
+        this.descriptions = descriptions;
+        this.prerequisiteOffsets = prerequisiteOffsets;
+        this.prerequisiteTargets = prerequisiteTargets;
+        this.instanceIds = instanceIds;
+        this.instanceCourses = instanceCourses;
+        this.instanceCourseCodes = instanceCourseCodes;
+        this.instanceYears = instanceYears;
+        this.instanceSemesters = instanceSemesters;
+        this.instructors = instructors;
+        this.semesterYears = semesterYears;
+        this.semesterNumbers = semesterNumbers;
+        this.semesterStarts = semesterStarts;
+    }
+
+    int courseCount() {
+        return courseIds.length;
+    }
+
+    int instanceCount() {
+        return instanceIds.length;
+    }
+
+    /** Writes the snapshot to a stream the caller is expected to buffer. */
+    void writeTo(OutputStream target) throws IOException {
+        CRC32 crc = new CRC32();
+        DataOutputStream out = new DataOutputStream(new CheckedOutputStream(target, crc));
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(databaseVersion.changeCounter());
+        out.writeInt(databaseVersion.pageCount());
+        out.writeInt(databaseVersion.schemaCookie());
+        out.writeInt(courseIds.length);
+        out.writeInt(prerequisiteTargets.length);
+        out.writeInt(instanceIds.length);
+        out.writeInt(semesterYears.length);
+
+        for (int i = 0; i < courseIds.length; i++) {
+            out.writeLong(courseIds[i]);
+            writeString(out, courseCodes[i]);
+            writeString(out, titles[i]);
+            writeString(out, descriptions[i]);
+        }
+        for (int offset : prerequisiteOffsets) {
+            out.writeInt(offset);
+        }
+        for (int prerequisite : prerequisiteTargets) {
+            out.writeInt(prerequisite);
+        }
+        for (int i = 0; i < instanceIds.length; i++) {
+            out.writeLong(instanceIds[i]);
+            out.writeInt(instanceCourses[i]);
+            writeString(out, instanceCourseCodes[i]);
+            out.writeInt(instanceYears[i]);
+            out.writeInt(instanceSemesters[i]);
+            writeString(out, instructors[i]);
+        }
+        for (int i = 0; i < semesterYears.length; i++) {
+            out.writeInt(semesterYears[i]);
+            out.writeInt(semesterNumbers[i]);
+            out.writeInt(semesterStarts[i]);
+        }
+        out.writeInt(semesterStarts[semesterYears.length]);
+        out.flush();
+
+        DataOutputStream trailer = new DataOutputStream(target);
+        trailer.writeLong(crc.getValue());
+        trailer.flush();
+    }
+
+    /**
+     * @throws IllegalArgumentException if the buffer is not a complete, uncorrupted snapshot of this format version
+     */
+    static CatalogSnapshot decode(ByteBuffer buffer) {
+        try {
+            if (buffer.remaining() < Long.BYTES) {
+                throw new IllegalArgumentException("Snapshot is truncated");
+            }
+            CRC32 crc = new CRC32();
+            ByteBuffer body = buffer.duplicate();
+            body.limit(buffer.limit() - Long.BYTES);
+            crc.update(body);
+            if (crc.getValue() != buffer.getLong(buffer.limit() - Long.BYTES)) {
+                throw new IllegalArgumentException("Snapshot checksum mismatch");
+            }
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a catalog snapshot");
+            }
+            int version = buffer.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot version " + version);
+            }
+            DatabaseVersion databaseVersion = new DatabaseVersion(buffer.getInt(), buffer.getInt(), buffer.getInt());
+            int courseCount = buffer.getInt();
+            int edgeCount = buffer.getInt();
+            int instanceCount = buffer.getInt();
+            int semesterCount = buffer.getInt();
+
+            long[] courseIds = new long[courseCount];
+            String[] courseCodes = new String[courseCount];
+            String[] titles = new String[courseCount];
+            String[] descriptions = new String[courseCount];
+            for (int i = 0; i < courseCount; i++) {
+                courseIds[i] = buffer.getLong();
+                courseCodes[i] = readString(buffer);
+                titles[i] = readString(buffer);
+                descriptions[i] = readString(buffer);
+            }
+
+            int[] prerequisiteOffsets = new int[courseCount + 1];
+            buffer.asIntBuffer().get(prerequisiteOffsets);
+            buffer.position(buffer.position() + prerequisiteOffsets.length * Integer.BYTES);
+            int[] prerequisiteTargets = new int[edgeCount];
+            buffer.asIntBuffer().get(prerequisiteTargets);
+            buffer.position(buffer.position() + prerequisiteTargets.length * Integer.BYTES);
+
+            long[] instanceIds = new long[instanceCount];
+            int[] instanceCourses = new int[instanceCount];
+            String[] instanceCourseCodes = new String[instanceCount];
+            int[] instanceYears = new int[instanceCount];
+            int[] instanceSemesters = new int[instanceCount];
+            String[] instructors = new String[instanceCount];
+            for (int i = 0; i < instanceCount; i++) {
+                instanceIds[i] = buffer.getLong();
+                instanceCourses[i] = buffer.getInt();
+                instanceCourseCodes[i] = readString(buffer);
+                instanceYears[i] = buffer.getInt();
+                instanceSemesters[i] = buffer.getInt();
+                instructors[i] = readString(buffer);
+            }
+
+            int[] semesterYears = new int[semesterCount];
+            int[] semesterNumbers = new int[semesterCount];
+            int[] semesterStarts = new int[semesterCount + 1];
+            for (int i = 0; i < semesterCount; i++) {
+                semesterYears[i] = buffer.getInt();
+                semesterNumbers[i] = buffer.getInt();
+                semesterStarts[i] = buffer.getInt();
+            }
+            semesterStarts[semesterCount] = buffer.getInt();
+
+            return new CatalogSnapshot(databaseVersion, courseIds, courseCodes, titles, descriptions,
+                prerequisiteOffsets, prerequisiteTargets, instanceIds, instanceCourses, instanceCourseCodes,
+                instanceYears, instanceSemesters, instructors, semesterYears, semesterNumbers, semesterStarts);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Snapshot is truncated", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] encoded = new byte[length];
+        buffer.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,19 @@
+package com.iitb.coursemanagement.snapshot;
+
+/**
+ * Identifies a state of the SQLite database file by three header fields that SQLite updates on
+ * every committed write in rollback-journal mode. The change counter alone is a small integer that
+ * two unrelated databases can easily share; adding the page count and schema cookie makes an old
+ * snapshot matching a swapped or restored database file far less likely.
+ *
+ * @param changeCounter file change counter (header offset 24)
+ * @param pageCount     database size in pages (header offset 28)
+ * @param schemaCookie  incremented on every schema change (header offset 40)
+ */
+record DatabaseVersion(int changeCounter, int pageCount, int schemaCookie) {
+
+    @Override
+    public String toString() {
+        return "change counter " + changeCounter + ", " + pageCount + " pages, schema cookie " + schemaCookie;
+    }
+}
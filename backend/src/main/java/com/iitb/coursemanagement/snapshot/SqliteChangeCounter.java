@@ -0,0 +1,82 @@
+package com.iitb.coursemanagement.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the {@link DatabaseVersion} fields from the SQLite database header: the "file change counter"
+ * (offset 24), which SQLite bumps on every committed write in rollback-journal mode, the page count
+ * and the schema cookie. Comparing them is one 20-byte positional read, cheap enough to do on every
+ * request. In WAL mode the counter is not maintained, so it reports unavailable.
+ */
+final class SqliteChangeCounter implements Closeable {
+
+    private static final int WRITE_VERSION_OFFSET = 18;
+    private static final int CHANGE_COUNTER_OFFSET = 24;
+    private static final int PAGE_COUNT_OFFSET = 28;
+    private static final int SCHEMA_COOKIE_OFFSET = 40;
+    private static final int HEADER_BYTES = SCHEMA_COOKIE_OFFSET + Integer.BYTES - CHANGE_COUNTER_OFFSET;
+    private static final int WAL_FORMAT = 2;
+
+    private final FileChannel channel;
+
+    private SqliteChangeCounter(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * @return a counter for the database behind a {@code jdbc:sqlite:} URL, or null if the URL does not
+     *         point at an existing file in rollback-journal mode
+     */
+    static SqliteChangeCounter open(String jdbcUrl) throws IOException {
+        if (jdbcUrl == null || !jdbcUrl.startsWith("jdbc:sqlite:")) {
+            return null;
+        }
+        String location = jdbcUrl.substring("jdbc:sqlite:".length());
+        int query = location.indexOf('?');
+        if (query >= 0) {
+            location = location.substring(0, query);
+        }
+        if (location.startsWith("file:")) {
+            location = location.substring("file:".length());
+        }
+        if (location.isEmpty() || location.contains(":memory:")) {
+            return null;
+        }
+        Path path = Path.of(location);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        ByteBuffer format = ByteBuffer.allocate(1);
+        if (channel.read(format, WRITE_VERSION_OFFSET) != 1 || format.get(0) == WAL_FORMAT) {
+            channel.close();
+            return null;
+        }
+        return new SqliteChangeCounter(channel);
+    }
+
+    DatabaseVersion read() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        while (header.hasRemaining()) {
+            if (channel.read(header, CHANGE_COUNTER_OFFSET + header.position()) < 0) {
+                throw new IOException("Database header is truncated");
+            }
+        }
+        return new DatabaseVersion(
+            header.getInt(0),
+            header.getInt(PAGE_COUNT_OFFSET - CHANGE_COUNTER_OFFSET),
+            header.getInt(SCHEMA_COOKIE_OFFSET - CHANGE_COUNTER_OFFSET));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
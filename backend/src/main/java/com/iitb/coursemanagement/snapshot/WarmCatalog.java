@@ -0,0 +1,461 @@
+package com.iitb.coursemanagement.snapshot;
+
+import com.iitb.coursemanagement.dto.CourseSummary;
+import com.iitb.coursemanagement.dto.InstanceSummary;
+import com.iitb.coursemanagement.dto.SemesterView;
+import com.iitb.coursemanagement.model.Course;
+import com.iitb.coursemanagement.model.CourseInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory copy of the catalog that serves the full course list, semester listings and semester
+ * views without touching SQLite.
+ *
+ * At startup the previous {@link CatalogSnapshot} is memory-mapped from disk and used as-is if the
+ * database's {@link DatabaseVersion} still matches; otherwise the catalog is read from the database once.
+ * Every read re-checks the version, so a write from anywhere (the API, a catalog import, the
+ * sqlite3 shell) makes the copy stale immediately. Stale reads fall back to the repositories while a
+ * background rebuild runs. The snapshot is written back on shutdown and periodically when it changed.
+ */
+@Component
+public class WarmCatalog implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmCatalog.class);
+
+    private static final String COURSES_SQL =
+        "SELECT id, course_id, title, description FROM course ORDER BY id";
+    // rowid order matches the order Hibernate loads the prerequisite bag in
+    private static final String PREREQUISITES_SQL =
+        "SELECT course_id, prerequisite_id FROM course_prerequisites ORDER BY course_id, rowid";
+    private static final String INSTANCES_SQL =
+        "SELECT id, course_id, course_code, year, semester, instructor FROM course_instance " +
+        "ORDER BY year, semester, id";
+
+    // ORDER BY on a text column puts NULLs first
+    private static final Comparator<String> CODE_ORDER = Comparator.nullsFirst(Comparator.naturalOrder());
+
+    /** A snapshot with the entity graphs the controllers return, built once per snapshot. */
+    private static final class View {
+        final CatalogSnapshot snapshot;
+        final List<Course> courses;
+        final Map<Long, List<CourseInstance>> instancesBySemester;
+        final Map<Long, Integer> semesterIndex;
+
+        View(CatalogSnapshot snapshot) {
+            this.snapshot = snapshot;
+
+            List<Course> built = new ArrayList<>(snapshot.courseCount());
+            for (int i = 0; i < snapshot.courseCount(); i++) {
+                Course course = new Course(snapshot.courseCodes[i], snapshot.titles[i]);
+                course.setId(snapshot.courseIds[i]);
+                course.setDescription(snapshot.descriptions[i]);
+                built.add(course);
+            }
+            for (int i = 0; i < snapshot.courseCount(); i++) {
+                List<Course> prerequisites = built.get(i).getPrerequisites();
+                for (int e = snapshot.prerequisiteOffsets[i]; e < snapshot.prerequisiteOffsets[i + 1]; e++) {
+                    prerequisites.add(built.get(snapshot.prerequisiteTargets[e]));
+                }
+            }
+            this.courses = Collections.unmodifiableList(built);
+
+            Map<Long, List<CourseInstance>> bySemester = new HashMap<>();
+            Map<Long, Integer> index = new HashMap<>();
+            for (int s = 0; s < snapshot.semesterYears.length; s++) {
+                index.put(semesterKey(snapshot.semesterYears[s], snapshot.semesterNumbers[s]), s);
+                List<CourseInstance> instances = new ArrayList<>();
+                for (int i = snapshot.semesterStarts[s]; i < snapshot.semesterStarts[s + 1]; i++) {
+                    int courseIndex = snapshot.instanceCourses[i];
+                    CourseInstance instance = new CourseInstance(courseIndex >= 0 ? built.get(courseIndex) : null,
+                        snapshot.instanceYears[i], snapshot.instanceSemesters[i], snapshot.instructors[i]);
+                    instance.setId(snapshot.instanceIds[i]);
+                    instance.setCourseId(snapshot.instanceCourseCodes[i]);
+                    instances.add(instance);
+                }
+                bySemester.put(semesterKey(snapshot.semesterYears[s], snapshot.semesterNumbers[s]),
+                    Collections.unmodifiableList(instances));
+            }
+            this.instancesBySemester = bySemester;
+            this.semesterIndex = index;
+        }
+
+        /** Same content and order as {@code SemesterViewService} builds from the repositories. */
+        SemesterView semesterView(int year, int semester) {
+            List<InstanceSummary> instances = new ArrayList<>();
+            List<CourseSummary> courses = new ArrayList<>();
+            Integer s = semesterIndex.get(semesterKey(year, semester));
+            if (s == null) {
+                return new SemesterView(year, semester, courses, instances);
+            }
+
+            boolean[] offered = new boolean[snapshot.courseCount()];
+            for (int i = snapshot.semesterStarts[s]; i < snapshot.semesterStarts[s + 1]; i++) {
+                instances.add(new InstanceSummary(snapshot.instanceIds[i], snapshot.instanceCourseCodes[i],
+                    snapshot.instanceYears[i], snapshot.instanceSemesters[i], snapshot.instructors[i]));
+                int courseIndex = snapshot.instanceCourses[i];
+                if (courseIndex >= 0 && !offered[courseIndex]) {
+                    offered[courseIndex] = true;
+                    List<String> prerequisites = new ArrayList<>();
+                    int edgesEnd = snapshot.prerequisiteOffsets[courseIndex + 1];
+                    for (int e = snapshot.prerequisiteOffsets[courseIndex]; e < edgesEnd; e++) {
+                        prerequisites.add(snapshot.courseCodes[snapshot.prerequisiteTargets[e]]);
+                    }
+                    prerequisites.sort(CODE_ORDER);
+                    courses.add(new CourseSummary(snapshot.courseIds[courseIndex], snapshot.courseCodes[courseIndex],
+                        snapshot.titles[courseIndex], snapshot.descriptions[courseIndex], prerequisites));
+                }
+            }
+            instances.sort(Comparator.comparing(InstanceSummary::courseId, CODE_ORDER));
+            courses.sort(Comparator.comparing(CourseSummary::courseId, CODE_ORDER));
+            return new SemesterView(year, semester, courses, instances);
+        }
+    }
+
+    private final boolean enabled;
+    private final String jdbcUrl;
+    private final Path snapshotPath;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readTransaction;
+
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "warm-catalog-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private volatile SqliteChangeCounter changeCounter;
+    private volatile View view;
+    private volatile boolean running;
+    private DatabaseVersion persistedVersion;
+
+    public WarmCatalog(
+            @Value("${app.catalog-snapshot.enabled:true}") boolean enabled,
+            @Value("${spring.datasource.url}") String jdbcUrl,
+            @Value("${app.catalog-snapshot.path}") String snapshotPath,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager) {
+        this.enabled = enabled;
+        this.jdbcUrl = jdbcUrl;
+        this.snapshotPath = Path.of(snapshotPath);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /** @return all courses with their prerequisite graph, or empty if the caller must query the database */
+    public Optional<List<Course>> courses() {
+        View current = currentView();
+        return current != null ? Optional.of(current.courses) : Optional.empty();
+    }
+
+    /** @return the semester's instances, or empty if the caller must query the database */
+    public Optional<List<CourseInstance>> instances(int year, int semester) {
+        View current = currentView();
+        if (current == null) {
+            return Optional.empty();
+        }
+        return Optional.of(current.instancesBySemester.getOrDefault(semesterKey(year, semester), List.of()));
+    }
+
+    /** @return the semester's normalized view, or empty if the caller must query the database */
+    public Optional<SemesterView> semesterView(int year, int semester) {
+        View current = currentView();
+        return current != null ? Optional.of(current.semesterView(year, semester)) : Optional.empty();
+    }
+
+    private View currentView() {
+        SqliteChangeCounter counter = changeCounter;
+        View current = view;
+        if (!running || counter == null || current == null) {
+            return null;
+        }
+        try {
+            if (counter.read().equals(current.snapshot.databaseVersion)) {
+                return current;
+            }
+        } catch (IOException e) {
+            logger.warn("Could not read database change counter", e);
+            return null;
+        }
+        scheduleRebuild();
+        return null;
+    }
+
+    private void scheduleRebuild() {
+        if (rebuilding.compareAndSet(false, true)) {
+            rebuildExecutor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    logger.error("Error rebuilding warm catalog", e);
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        }
+    }
+
+    private synchronized void rebuild() {
+        long start = System.nanoTime();
+        CatalogSnapshot snapshot = readTransaction.execute(status -> loadFromDatabase());
+        view = new View(snapshot);
+        logger.info("Loaded warm catalog from database at {}: {} courses, {} instances in {} ms",
+            snapshot.databaseVersion, snapshot.courseCount(), snapshot.instanceCount(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private CatalogSnapshot loadFromDatabase() {
+        List<Long> courseIds = new ArrayList<>();
+        List<String> courseCodes = new ArrayList<>();
+        List<String> titles = new ArrayList<>();
+        List<String> descriptions = new ArrayList<>();
+        jdbcTemplate.query(COURSES_SQL, (RowCallbackHandler) rs -> {
+            courseIds.add(rs.getLong(1));
+            courseCodes.add(rs.getString(2));
+            titles.add(rs.getString(3));
+            descriptions.add(rs.getString(4));
+        });
+
+        // The first query took SQLite's shared lock, so the version cannot move until this transaction ends
+        DatabaseVersion version;
+        try {
+            version = changeCounter.read();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read database change counter", e);
+        }
+
+        int courseCount = courseIds.size();
+        Map<Long, Integer> indexById = new HashMap<>(courseCount * 2);
+        for (int i = 0; i < courseCount; i++) {
+            indexById.put(courseIds.get(i), i);
+        }
+
+        int[] prerequisiteOffsets = new int[courseCount + 1];
+        List<int[]> edges = new ArrayList<>();
+        jdbcTemplate.query(PREREQUISITES_SQL, (RowCallbackHandler) rs -> {
+            Integer from = indexById.get(rs.getLong(1));
+            Integer to = indexById.get(rs.getLong(2));
+            if (from != null && to != null) {
+                edges.add(new int[] {from, to});
+                prerequisiteOffsets[from + 1]++;
+            }
+        });
+        for (int i = 0; i < courseCount; i++) {
+            prerequisiteOffsets[i + 1] += prerequisiteOffsets[i];
+        }
+        int[] prerequisiteTargets = new int[edges.size()];
+        int[] fill = prerequisiteOffsets.clone();
+        for (int[] edge : edges) {
+            prerequisiteTargets[fill[edge[0]]++] = edge[1];
+        }
+
+        List<Long> instanceIds = new ArrayList<>();
+        List<Integer> instanceCourses = new ArrayList<>();
+        List<String> instanceCourseCodes = new ArrayList<>();
+        List<Integer> instanceYears = new ArrayList<>();
+        List<Integer> instanceSemesters = new ArrayList<>();
+        List<String> instructors = new ArrayList<>();
+        jdbcTemplate.query(INSTANCES_SQL, (RowCallbackHandler) rs -> {
+            instanceIds.add(rs.getLong(1));
+            instanceCourses.add(indexById.getOrDefault(rs.getLong(2), -1));
+            instanceCourseCodes.add(rs.getString(3));
+            instanceYears.add(rs.getInt(4));
+            instanceSemesters.add(rs.getInt(5));
+            instructors.add(rs.getString(6));
+        });
+
+        int instanceCount = instanceIds.size();
+        List<Integer> semesterYears = new ArrayList<>();
+        List<Integer> semesterNumbers = new ArrayList<>();
+        List<Integer> semesterStarts = new ArrayList<>();
+        for (int i = 0; i < instanceCount; i++) {
+            if (i == 0 || !instanceYears.get(i).equals(instanceYears.get(i - 1))
+                    || !instanceSemesters.get(i).equals(instanceSemesters.get(i - 1))) {
+                semesterYears.add(instanceYears.get(i));
+                semesterNumbers.add(instanceSemesters.get(i));
+                semesterStarts.add(i);
+            }
+        }
+        semesterStarts.add(instanceCount);
+
+        return new CatalogSnapshot(version,
+            toLongArray(courseIds), courseCodes.toArray(new String[0]), titles.toArray(new String[0]),
+            descriptions.toArray(new String[0]), prerequisiteOffsets, prerequisiteTargets,
+            toLongArray(instanceIds), toIntArray(instanceCourses), instanceCourseCodes.toArray(new String[0]),
+            toIntArray(instanceYears), toIntArray(instanceSemesters), instructors.toArray(new String[0]),
+            toIntArray(semesterYears), toIntArray(semesterNumbers), toIntArray(semesterStarts));
+    }
+
+    private boolean loadFromFile() {
+        if (!Files.isRegularFile(snapshotPath)) {
+            return false;
+        }
+        long start = System.nanoTime();
+        CatalogSnapshot snapshot;
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            snapshot = CatalogSnapshot.decode(buffer);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Ignoring unreadable catalog snapshot {}: {}", snapshotPath, e.getMessage());
+            return false;
+        }
+
+        DatabaseVersion version;
+        try {
+            version = changeCounter.read();
+        } catch (IOException e) {
+            return false;
+        }
+        if (!snapshot.databaseVersion.equals(version)) {
+            logger.info("Catalog snapshot is stale ({} vs database {})", snapshot.databaseVersion, version);
+            return false;
+        }
+
+        view = new View(snapshot);
+        persistedVersion = snapshot.databaseVersion;
+        logger.info("Loaded warm catalog from {}: {} courses, {} instances in {} ms", snapshotPath,
+            snapshot.courseCount(), snapshot.instanceCount(), (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${app.catalog-snapshot.persist-interval-ms:300000}",
+               initialDelayString = "${app.catalog-snapshot.persist-interval-ms:300000}")
+    public void persistPeriodically() {
+        if (running) {
+            persist();
+        }
+    }
+
+    private synchronized void persist() {
+        try {
+            View current = view;
+            if (current == null || !current.snapshot.databaseVersion.equals(changeCounter.read())) {
+                rebuild();
+                current = view;
+            }
+            CatalogSnapshot snapshot = current.snapshot;
+            if (snapshot.databaseVersion.equals(persistedVersion) && Files.isRegularFile(snapshotPath)) {
+                return;
+            }
+
+            Path directory = snapshotPath.toAbsolutePath().getParent();
+            Path temp = Files.createTempFile(directory, snapshotPath.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                    snapshot.writeTo(out);
+                }
+                Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            persistedVersion = snapshot.databaseVersion;
+            logger.info("Persisted catalog snapshot to {} at {}", snapshotPath, snapshot.databaseVersion);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Error persisting catalog snapshot to {}", snapshotPath, e);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            changeCounter = SqliteChangeCounter.open(jdbcUrl);
+        } catch (IOException e) {
+            logger.warn("Could not open database for change counter checks", e);
+        }
+        if (changeCounter == null) {
+            logger.info("Warm catalog disabled: {} is not a rollback-journal SQLite file", jdbcUrl);
+            return;
+        }
+
+        try {
+            if (!loadFromFile()) {
+                rebuild();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Warm catalog disabled: could not load catalog", e);
+            return;
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        // Runs after the web server has stopped, so no request can change the catalog anymore
+        persist();
+        running = false;
+        rebuildExecutor.shutdownNow();
+        try {
+            changeCounter.close();
+        } catch (IOException e) {
+            logger.debug("Error closing change counter", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Start before and stop after the web server, whose lifecycle runs in a later phase
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private static long semesterKey(int year, int semester) {
+        return ((long) year << 32) | semester;
+    }
+
+    private static long[] toLongArray(List<Long> values) {
+        long[] array = new long[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    private static int[] toIntArray(List<Integer> values) {
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+}
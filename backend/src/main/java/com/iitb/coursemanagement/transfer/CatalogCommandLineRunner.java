@@ -0,0 +1,82 @@
+package com.iitb.coursemanagement.transfer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs a catalog export or import from the command line instead of serving HTTP:
+ *
+ * <pre>
+ * java -jar app.jar --catalog.export=catalog.ndjson
+ * java -jar app.jar --catalog.export=instances.csv --catalog.table=instances --catalog.format=csv
+ * java -jar app.jar --catalog.import=catalog.ndjson
+ * </pre>
+ */
+@Component
+public class CatalogCommandLineRunner implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCommandLineRunner.class);
+
+    private static final String EXPORT_OPTION = "catalog.export";
+    private static final String IMPORT_OPTION = "catalog.import";
+    private static final String TABLE_OPTION = "catalog.table";
+    private static final String FORMAT_OPTION = "catalog.format";
+
+    @Autowired
+    private CatalogExporter exporter;
+
+    @Autowired
+    private CatalogImporter importer;
+
+    /** @return true if the arguments request a catalog command, in which case no web server is needed */
+    public static boolean isCatalogCommand(String[] args) {
+        return Arrays.stream(args)
+            .anyMatch(arg -> arg.startsWith("--" + EXPORT_OPTION + "=") || arg.startsWith("--" + IMPORT_OPTION + "="));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        if (args.containsOption(EXPORT_OPTION)) {
+            Path target = Path.of(singleValue(args, EXPORT_OPTION));
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+                if (args.containsOption(TABLE_OPTION)) {
+                    CatalogTable table = CatalogTable.fromKey(singleValue(args, TABLE_OPTION));
+                    CatalogFormat format = args.containsOption(FORMAT_OPTION)
+                        ? CatalogFormat.fromKey(singleValue(args, FORMAT_OPTION))
+                        : CatalogFormat.NDJSON;
+                    exporter.exportTable(table, format, out);
+                } else {
+                    exporter.exportSnapshot(out);
+                }
+            }
+            logger.info("Catalog exported to {}", target.toAbsolutePath());
+        } else if (args.containsOption(IMPORT_OPTION)) {
+            Path source = Path.of(singleValue(args, IMPORT_OPTION));
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(source))) {
+                CatalogImportResult result = importer.importSnapshot(in);
+                logger.info("Catalog imported from {}: {}", source.toAbsolutePath(), result);
+            }
+        }
+    }
+
+    private static String singleValue(ApplicationArguments args, String option) {
+        List<String> values = args.getOptionValues(option);
+        if (values == null || values.size() != 1 || values.get(0).isBlank()) {
+            throw new IllegalArgumentException("--" + option + " requires exactly one value");
+        }
+        return values.get(0);
+    }
+}
@@ -0,0 +1,177 @@
+package com.iitb.coursemanagement.transfer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Streams catalog tables straight from a JDBC cursor to an output stream. Rows are written as
+ * they are read, so memory use does not depend on the size of the catalog.
+ *
+ * Rows are read from a private copy of the database taken with {@code VACUUM INTO}. The live
+ * database is only read-locked while the copy is written to local disk, not for as long as the
+ * client takes to download, which would otherwise block every writer.
+ */
+@Component
+public class CatalogExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogExporter.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    public CatalogExporter(DataSource dataSource, ObjectMapper objectMapper,
+            @Value("${app.catalog.export-fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes every catalog table as one NDJSON stream, each record tagged with its {@code table}.
+     * All tables come from the same database copy, so the snapshot is consistent.
+     */
+    public void exportSnapshot(OutputStream out) throws IOException {
+        try (DatabaseCopy copy = copyDatabase()) {
+            JsonGenerator generator = newGenerator(out);
+            for (CatalogTable table : CatalogTable.values()) {
+                writeNdjson(copy.jdbcTemplate(), table, generator, true);
+            }
+            generator.flush();
+        }
+    }
+
+    public void exportTable(CatalogTable table, CatalogFormat format, OutputStream out) throws IOException {
+        try (DatabaseCopy copy = copyDatabase()) {
+            if (format == CatalogFormat.CSV) {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                writeCsv(copy.jdbcTemplate(), table, writer);
+                writer.flush();
+            } else {
+                JsonGenerator generator = newGenerator(out);
+                writeNdjson(copy.jdbcTemplate(), table, generator, false);
+                generator.flush();
+            }
+        }
+    }
+
+    /** A consistent, private copy of the live database in a temporary file. */
+    private record DatabaseCopy(Path file, SingleConnectionDataSource dataSource, JdbcTemplate jdbcTemplate)
+            implements AutoCloseable {
+
+        @Override
+        public void close() throws IOException {
+            dataSource.destroy();
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private DatabaseCopy copyDatabase() throws IOException {
+        // VACUUM INTO accepts an existing empty file as its target
+        Path file = Files.createTempFile("catalog-export-", ".db");
+        try {
+            long start = System.nanoTime();
+            jdbcTemplate.execute("VACUUM INTO '" + file.toAbsolutePath().toString().replace("'", "''") + "'");
+            logger.debug("Copied database for export in {} ms", (System.nanoTime() - start) / 1_000_000);
+
+            SingleConnectionDataSource dataSource =
+                new SingleConnectionDataSource("jdbc:sqlite:" + file.toAbsolutePath(), true);
+            dataSource.setDriverClassName("org.sqlite.JDBC");
+            JdbcTemplate copyTemplate = new JdbcTemplate(dataSource);
+            copyTemplate.setFetchSize(fetchSize);
+            return new DatabaseCopy(file, dataSource, copyTemplate);
+        } catch (RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private JsonGenerator newGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Records are newline-terminated explicitly instead of space-separated
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    private void writeNdjson(JdbcTemplate source, CatalogTable table, JsonGenerator generator, boolean tagged) {
+        List<String> columns = table.getColumns();
+        long rows = streamRows(source, table, rs -> {
+            generator.writeStartObject();
+            if (tagged) {
+                generator.writeStringField("table", table.getKey());
+            }
+            for (int i = 0; i < columns.size(); i++) {
+                generator.writeObjectField(columns.get(i), rs.getObject(i + 1));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        });
+        logger.info("Exported {} {} rows as NDJSON", rows, table.getKey());
+    }
+
+    private void writeCsv(JdbcTemplate source, CatalogTable table, Writer writer) throws IOException {
+        List<String> columns = table.getColumns();
+        writer.write(String.join(",", columns));
+        writer.write("\r\n");
+        long rows = streamRows(source, table, rs -> {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = rs.getObject(i + 1);
+                if (value != null) {
+                    writer.write(escapeCsv(value.toString()));
+                }
+            }
+            writer.write("\r\n");
+        });
+        logger.info("Exported {} {} rows as CSV", rows, table.getKey());
+    }
+
+    private long streamRows(JdbcTemplate source, CatalogTable table, RowWriter rowWriter) {
+        long[] rows = {0};
+        source.query(table.selectSql(), (RowCallbackHandler) rs -> {
+            try {
+                rowWriter.write(rs);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+}
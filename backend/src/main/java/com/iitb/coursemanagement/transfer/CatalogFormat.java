@@ -0,0 +1,30 @@
+package com.iitb.coursemanagement.transfer;
+
+import java.util.Locale;
+
+public enum CatalogFormat {
+
+    /** One JSON object per line; a full snapshot tags every record with its {@code table}. */
+    NDJSON("application/x-ndjson"),
+
+    /** RFC 4180 CSV with a header row; one table per stream. */
+    CSV("text/csv");
+
+    private final String contentType;
+
+    CatalogFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public static CatalogFormat fromKey(String key) {
+        try {
+            return valueOf(key.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown catalog format: " + key);
+        }
+    }
+}
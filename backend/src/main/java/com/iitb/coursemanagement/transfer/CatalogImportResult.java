@@ -0,0 +1,4 @@
+package com.iitb.coursemanagement.transfer;
+
+public record CatalogImportResult(long courses, long prerequisites, long instances) {
+}
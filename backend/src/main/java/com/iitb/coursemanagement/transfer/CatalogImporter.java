@@ -0,0 +1,123 @@
+package com.iitb.coursemanagement.transfer;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iitb.coursemanagement.service.SemesterViewCacheInvalidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Restores an NDJSON catalog snapshot produced by {@link CatalogExporter#exportSnapshot}.
+ *
+ * The existing catalog is replaced inside a single transaction. Secondary indexes are dropped
+ * before loading and recreated from their original DDL afterwards, which is much cheaper than
+ * maintaining them row by row. Rows are parsed one at a time and written in JDBC batches, so
+ * memory use is bounded by the batch size.
+ */
+@Component
+public class CatalogImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogImporter.class);
+
+    private static final String SECONDARY_INDEXES_SQL =
+        "SELECT name, sql FROM sqlite_master WHERE type = 'index' AND sql IS NOT NULL " +
+        "AND tbl_name IN ('course', 'course_prerequisites', 'course_instance')";
+
+    private record IndexDefinition(String name, String sql) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final SemesterViewCacheInvalidator cacheInvalidator;
+    private final int batchSize;
+
+    public CatalogImporter(DataSource dataSource, ObjectMapper objectMapper,
+            SemesterViewCacheInvalidator cacheInvalidator,
+            @Value("${app.catalog.import-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+        this.cacheInvalidator = cacheInvalidator;
+        this.batchSize = batchSize;
+    }
+
+    @Transactional
+    public CatalogImportResult importSnapshot(InputStream in) throws IOException {
+        // Plain JDBC writes bypass CatalogChangeInterceptor
+        cacheInvalidator.invalidateAfterCommit();
+
+        List<IndexDefinition> indexes = jdbcTemplate.query(SECONDARY_INDEXES_SQL,
+            (rs, rowNum) -> new IndexDefinition(rs.getString("name"), rs.getString("sql")));
+        for (IndexDefinition index : indexes) {
+            jdbcTemplate.execute("DROP INDEX \"" + index.name() + "\"");
+        }
+
+        jdbcTemplate.update("DELETE FROM course_instance");
+        jdbcTemplate.update("DELETE FROM course_prerequisites");
+        jdbcTemplate.update("DELETE FROM course");
+
+        Map<CatalogTable, List<Object[]>> pending = new EnumMap<>(CatalogTable.class);
+        Map<CatalogTable, Long> counts = new EnumMap<>(CatalogTable.class);
+        for (CatalogTable table : CatalogTable.values()) {
+            pending.put(table, new ArrayList<>(batchSize));
+            counts.put(table, 0L);
+        }
+
+        long line = 0;
+        try (MappingIterator<Map<String, Object>> records = objectMapper.readerForMapOf(Object.class).readValues(in)) {
+            while (records.hasNextValue()) {
+                Map<String, Object> record = records.nextValue();
+                line++;
+                Object tableKey = record.get("table");
+                if (tableKey == null) {
+                    throw new IllegalArgumentException("Record " + line + " has no table field");
+                }
+                CatalogTable table = CatalogTable.fromKey(tableKey.toString());
+
+                List<String> columns = table.getColumns();
+                Object[] row = new Object[columns.size()];
+                for (int i = 0; i < columns.size(); i++) {
+                    row[i] = record.get(columns.get(i));
+                }
+
+                List<Object[]> batch = pending.get(table);
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    flush(table, batch);
+                }
+                counts.merge(table, 1L, Long::sum);
+            }
+        }
+        pending.forEach(this::flush);
+
+        for (IndexDefinition index : indexes) {
+            jdbcTemplate.execute(index.sql());
+        }
+        jdbcTemplate.execute("ANALYZE");
+
+        CatalogImportResult result = new CatalogImportResult(
+            counts.get(CatalogTable.COURSES),
+            counts.get(CatalogTable.PREREQUISITES),
+            counts.get(CatalogTable.INSTANCES));
+        logger.info("Imported catalog snapshot: {}", result);
+        return result;
+    }
+
+    private void flush(CatalogTable table, List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(table.insertSql(), batch);
+            batch.clear();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.iitb.coursemanagement.transfer;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The tables that make up a catalog snapshot. Column names are the database column names,
+ * so {@code course_id} in {@link #INSTANCES} is the numeric course key and {@code course_code} the code.
+ */
+public enum CatalogTable {
+
+    COURSES("course", List.of("id", "course_id", "title", "description"), "id"),
+    PREREQUISITES("course_prerequisites", List.of("course_id", "prerequisite_id"), "course_id, prerequisite_id"),
+    INSTANCES("course_instance", List.of("id", "course_id", "course_code", "year", "semester", "instructor"), "id");
+
+    private final String tableName;
+    private final List<String> columns;
+    private final String orderBy;
+
+    CatalogTable(String tableName, List<String> columns, String orderBy) {
+        this.tableName = tableName;
+        this.columns = columns;
+        this.orderBy = orderBy;
+    }
+
+    /** Name used in URLs, CLI options and the {@code table} field of snapshot records. */
+    public String getKey() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    String selectSql() {
+        return "SELECT " + String.join(", ", columns) + " FROM " + tableName + " ORDER BY " + orderBy;
+    }
+
+    String insertSql() {
+        return "INSERT INTO " + tableName + " (" + String.join(", ", columns) + ") VALUES (" +
+            String.join(", ", columns.stream().map(c -> "?").toList()) + ")";
+    }
+
+    public static CatalogTable fromKey(String key) {
+        for (CatalogTable table : values()) {
+            if (table.getKey().equalsIgnoreCase(key)) {
+                return table;
+            }
+        }
+        throw new IllegalArgumentException("Unknown catalog table: " + key);
+    }
+}
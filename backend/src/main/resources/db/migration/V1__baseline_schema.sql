@@ -0,0 +1,25 @@
+-- Schema as previously generated by Hibernate ddl-auto=update.
+-- Existing databases are baselined at this version and skip it.
+
+CREATE TABLE course (
+    id integer,
+    course_id varchar(255) not null unique,
+    description TEXT,
+    title varchar(255) not null,
+    primary key (id)
+);
+
+CREATE TABLE course_instance (
+    id integer,
+    course_code varchar(255) not null,
+    instructor varchar(255) not null,
+    semester integer not null,
+    year integer not null,
+    course_id bigint not null,
+    primary key (id)
+);
+
+CREATE TABLE course_prerequisites (
+    course_id bigint not null,
+    prerequisite_id bigint not null
+);
@@ -0,0 +1,12 @@
+-- The unique constraint declared on CourseInstance was never created by the SQLite dialect.
+CREATE UNIQUE INDEX IF NOT EXISTS ux_course_instance_year_semester_code
+    ON course_instance (year, semester, course_code);
+
+CREATE INDEX IF NOT EXISTS ix_course_instance_course_id
+    ON course_instance (course_id);
+
+CREATE INDEX IF NOT EXISTS ix_course_prerequisites_course_id
+    ON course_prerequisites (course_id);
+
+CREATE INDEX IF NOT EXISTS ix_course_prerequisites_prerequisite_id
+    ON course_prerequisites (prerequisite_id);
@@ -0,0 +1,70 @@
+package com.iitb.coursemanagement.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DbAdmissionGateTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private DbAdmissionGate gate(int maxConcurrent, long maxWaitMillis, int priorityReserved) {
+        return new DbAdmissionGate(true, maxConcurrent, maxWaitMillis, priorityReserved, registry);
+    }
+
+    private double inFlight() {
+        return registry.get("db.admission.in-flight").gauge().value();
+    }
+
+    @Test
+    void rejectsOnceMaxWaitIsSpent() throws InterruptedException {
+        DbAdmissionGate gate = gate(2, 50, 1);
+        assertThat(gate.tryAcquire(false)).isEqualTo(DbAdmissionGate.Permit.SHARED);
+
+        long start = System.nanoTime();
+        assertThat(gate.tryAcquire(false)).isNull();
+
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(registry.get("db.admission.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void writesGetInWhileBulkReadsHoldEverySharedPermit() throws InterruptedException {
+        DbAdmissionGate gate = gate(3, 10, 2);
+        assertThat(gate.tryAcquire(false)).isEqualTo(DbAdmissionGate.Permit.SHARED);
+        assertThat(gate.tryAcquire(false)).isNull();
+
+        assertThat(gate.tryAcquire(true)).isEqualTo(DbAdmissionGate.Permit.PRIORITY);
+        assertThat(gate.tryAcquire(true)).isEqualTo(DbAdmissionGate.Permit.PRIORITY);
+        assertThat(gate.tryAcquire(true)).isNull();
+        assertThat(inFlight()).isEqualTo(3);
+    }
+
+    @Test
+    void releasedPermitsCanBeAcquiredAgain() throws InterruptedException {
+        DbAdmissionGate gate = gate(2, 10, 1);
+        DbAdmissionGate.Permit shared = gate.tryAcquire(false);
+        DbAdmissionGate.Permit priority = gate.tryAcquire(true);
+        assertThat(inFlight()).isEqualTo(2);
+
+        gate.release(shared);
+        gate.release(priority);
+
+        assertThat(inFlight()).isZero();
+        assertThat(gate.tryAcquire(false)).isEqualTo(DbAdmissionGate.Permit.SHARED);
+        assertThat(gate.tryAcquire(true)).isEqualTo(DbAdmissionGate.Permit.PRIORITY);
+    }
+
+    @Test
+    void clampsReserveSoOnePermitStaysShared() throws InterruptedException {
+        DbAdmissionGate gate = gate(1, 10, 2);
+
+        assertThat(gate.tryAcquire(true)).isEqualTo(DbAdmissionGate.Permit.SHARED);
+        assertThat(gate.tryAcquire(false)).isNull();
+        assertThat(gate.tryAcquire(true)).isNull();
+    }
+}
@@ -0,0 +1,74 @@
+package com.iitb.coursemanagement.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DbAdmissionInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DbAdmissionInterceptor interceptor = new DbAdmissionInterceptor();
+
+    @BeforeEach
+    void setUp() {
+        DbAdmissionGate gate = new DbAdmissionGate(true, 2, 10, 1, registry);
+        ReflectionTestUtils.setField(interceptor, "admissionGate", gate);
+    }
+
+    private double inFlight() {
+        return registry.get("db.admission.in-flight").gauge().value();
+    }
+
+    @Test
+    void releasesPermitOnCompletion() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(request, response, null)).isTrue();
+        assertThat(inFlight()).isEqualTo(1);
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void releasesPermitWhenHandlerFails() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/courses");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        interceptor.afterCompletion(request, response, null, new IllegalStateException("boom"));
+
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void releasesPermitOnlyOnce() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        // An async dispatch calls afterCompletion again for the same request
+        interceptor.afterCompletion(request, response, null, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        // A second release would push the shared pool above its size
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    void answersSaturationWith503() throws Exception {
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/courses"), new MockHttpServletResponse(), null);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/courses"), response, null)).isFalse();
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+    }
+}
@@ -0,0 +1,54 @@
+package com.iitb.coursemanagement.admission;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EndpointClassTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "GET, /api/courses, BULK_READ",
+        "GET, /api/courses/, BULK_READ",
+        "GET, /api/instances/2024/1, BULK_READ",
+        "GET, /api/semesters/2024/2, BULK_READ",
+        "GET, /api/catalog/export, BULK_READ",
+        "GET, /api/catalog/export/instances, BULK_READ",
+        "GET, /api/courses/CS101, READ",
+        "GET, /api/instances/2024/1/CS101, READ",
+        "GET, /api/instances, BULK_READ",
+        "GET, /api/semesters/2024, READ",
+        "GET, /api/semesters/2024/one, READ",
+        "POST, /api/courses, WRITE",
+        "PUT, /api/courses/1, WRITE",
+        "DELETE, /api/instances/2024/1/CS101, WRITE",
+        "POST, /api/catalog/import, WRITE"
+    })
+    void classifiesByMethodAndPath(String method, String path, EndpointClass expected) {
+        assertThat(EndpointClass.of(new MockHttpServletRequest(method, path))).isEqualTo(expected);
+    }
+
+    @Test
+    void ignoresContextPath() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/courses");
+        request.setContextPath("/app");
+
+        assertThat(EndpointClass.of(request)).isEqualTo(EndpointClass.BULK_READ);
+    }
+
+    @Test
+    void exemptsPreflightAndHeadRequests() {
+        assertThat(EndpointClass.of(new MockHttpServletRequest("OPTIONS", "/api/courses"))).isNull();
+        assertThat(EndpointClass.of(new MockHttpServletRequest("HEAD", "/api/courses"))).isNull();
+    }
+
+    @Test
+    void onlyWritesArePriority() {
+        assertThat(EndpointClass.WRITE.isPriority()).isTrue();
+        assertThat(EndpointClass.READ.isPriority()).isFalse();
+        assertThat(EndpointClass.BULK_READ.isPriority()).isFalse();
+    }
+}
@@ -0,0 +1,82 @@
+package com.iitb.coursemanagement.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitInterceptorTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void roundsRetryAfterUpToWholeSeconds() {
+        assertThat(RateLimitInterceptor.retryAfterSeconds(1)).isEqualTo(1);
+        assertThat(RateLimitInterceptor.retryAfterSeconds(SECOND)).isEqualTo(1);
+        assertThat(RateLimitInterceptor.retryAfterSeconds(SECOND + 1)).isEqualTo(2);
+        assertThat(RateLimitInterceptor.retryAfterSeconds(10 * SECOND - 1)).isEqualTo(10);
+    }
+
+    @Test
+    void capsRetryAfterForBucketsThatNeverRefill() {
+        assertThat(RateLimitInterceptor.retryAfterSeconds(Long.MAX_VALUE))
+            .isEqualTo(RateLimitInterceptor.MAX_RETRY_AFTER_SECONDS);
+        assertThat(RateLimitInterceptor.retryAfterSeconds(Long.MAX_VALUE - SECOND + 2))
+            .isEqualTo(RateLimitInterceptor.MAX_RETRY_AFTER_SECONDS);
+        assertThat(RateLimitInterceptor.retryAfterSeconds(2 * RateLimitInterceptor.MAX_RETRY_AFTER_SECONDS * SECOND))
+            .isEqualTo(RateLimitInterceptor.MAX_RETRY_AFTER_SECONDS);
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor, String realIp) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        if (realIp != null) {
+            request.addHeader("X-Real-IP", realIp);
+        }
+        return request;
+    }
+
+    @Test
+    void ignoresForwardingHeadersFromUntrustedPeers() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor("172.28.0.10");
+
+        assertThat(interceptor.resolveClientId(request("203.0.113.7", "198.51.100.1", "198.51.100.2")))
+            .isEqualTo("203.0.113.7");
+        assertThat(new RateLimitInterceptor("").resolveClientId(request("172.28.0.10", "198.51.100.1", null)))
+            .isEqualTo("172.28.0.10");
+    }
+
+    @Test
+    void usesRightmostForwardedHopFromTrustedProxy() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor("172.28.0.10");
+
+        // The client controls everything left of the address the proxy appended
+        assertThat(interceptor.resolveClientId(request("172.28.0.10", "10.9.9.9, 198.51.100.1", null)))
+            .isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    void skipsFurtherTrustedHops() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor("172.28.0.10,10.0.0.0/8");
+
+        assertThat(interceptor.resolveClientId(request("172.28.0.10", "1.2.3.4, 198.51.100.1, 10.0.0.5, 10.0.0.6", null)))
+            .isEqualTo("198.51.100.1");
+        assertThat(interceptor.resolveClientId(request("172.28.0.10", " , 198.51.100.1 ,", null)))
+            .isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    void fallsBackToRealIpThenRemoteAddress() {
+        RateLimitInterceptor interceptor = new RateLimitInterceptor("172.28.0.10,10.0.0.0/8");
+
+        assertThat(interceptor.resolveClientId(request("172.28.0.10", "10.0.0.5", " 198.51.100.3 ")))
+            .isEqualTo("198.51.100.3");
+        assertThat(interceptor.resolveClientId(request("172.28.0.10", null, "198.51.100.3")))
+            .isEqualTo("198.51.100.3");
+        assertThat(interceptor.resolveClientId(request("172.28.0.10", "10.0.0.5", null)))
+            .isEqualTo("172.28.0.10");
+    }
+}
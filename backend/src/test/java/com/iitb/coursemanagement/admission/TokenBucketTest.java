@@ -0,0 +1,68 @@
+package com.iitb.coursemanagement.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TokenBucketTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    void startsFullAndAllowsBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 2, 0);
+
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isZero();
+        assertThat(bucket.tryConsume(0)).isPositive();
+    }
+
+    @Test
+    void reportsTimeUntilNextTokenWhenEmpty() {
+        TokenBucket bucket = new TokenBucket(1, 2, 0);
+        bucket.tryConsume(0);
+
+        // 2 tokens per second: a whole token takes 500 ms, half of one is already there after 250 ms
+        assertThat(bucket.tryConsume(0)).isCloseTo(500 * MILLIS, within(1L));
+        assertThat(bucket.tryConsume(250 * MILLIS)).isCloseTo(250 * MILLIS, within(1L));
+    }
+
+    @Test
+    void refillsContinuously() {
+        TokenBucket bucket = new TokenBucket(1, 2, 0);
+        bucket.tryConsume(0);
+
+        assertThat(bucket.tryConsume(499 * MILLIS)).isPositive();
+        assertThat(bucket.tryConsume(500 * MILLIS)).isZero();
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 10, 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        long later = 60_000 * MILLIS;
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isZero();
+        assertThat(bucket.tryConsume(later)).isCloseTo(100 * MILLIS, within(1L));
+    }
+
+    @Test
+    void neverRefillsWithZeroRate() {
+        TokenBucket bucket = new TokenBucket(1, 0, 0);
+        bucket.tryConsume(0);
+
+        assertThat(bucket.tryConsume(60_000 * MILLIS)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void ignoresClockGoingBackwards() {
+        TokenBucket bucket = new TokenBucket(1, 1, 1_000 * MILLIS);
+        bucket.tryConsume(1_000 * MILLIS);
+
+        assertThat(bucket.tryConsume(0)).isCloseTo(1_000 * MILLIS, within(1L));
+    }
+}
@@ -0,0 +1,52 @@
+package com.iitb.coursemanagement.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TrustedProxiesTest {
+
+    @Test
+    void blankTrustsNobody() {
+        TrustedProxies proxies = new TrustedProxies("");
+
+        assertThat(proxies.isEmpty()).isTrue();
+        assertThat(proxies.contains("127.0.0.1")).isFalse();
+    }
+
+    @Test
+    void matchesSingleAddresses() {
+        TrustedProxies proxies = new TrustedProxies("172.28.0.10, ::1");
+
+        assertThat(proxies.contains("172.28.0.10")).isTrue();
+        assertThat(proxies.contains("172.28.0.11")).isFalse();
+        assertThat(proxies.contains("0:0:0:0:0:0:0:1")).isTrue();
+    }
+
+    @Test
+    void matchesCidrRanges() {
+        TrustedProxies proxies = new TrustedProxies("10.0.0.0/8,192.168.1.128/25");
+
+        assertThat(proxies.contains("10.255.0.1")).isTrue();
+        assertThat(proxies.contains("11.0.0.1")).isFalse();
+        assertThat(proxies.contains("192.168.1.200")).isTrue();
+        assertThat(proxies.contains("192.168.1.127")).isFalse();
+    }
+
+    @Test
+    void neverResolvesHostNames() {
+        TrustedProxies proxies = new TrustedProxies("127.0.0.1");
+
+        assertThat(proxies.contains("localhost")).isFalse();
+        assertThat(TrustedProxies.parse("localhost")).isNull();
+        assertThat(TrustedProxies.parse("1.2.3")).isNull();
+    }
+
+    @Test
+    void rejectsInvalidEntries() {
+        assertThatThrownBy(() -> new TrustedProxies("nginx")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TrustedProxies("10.0.0.0/33")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TrustedProxies("10.0.0.0/x")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,107 @@
+package com.iitb.coursemanagement.snapshot;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogSnapshotTest {
+
+    private static CatalogSnapshot sampleSnapshot() {
+        // CS201 requires CS101; two instances in 2024/1 and one in 2024/2, one of them for a missing course
+        return new CatalogSnapshot(new DatabaseVersion(42, 12, 9),
+            new long[] {1, 2},
+            new String[] {"CS101", "CS201"},
+            new String[] {"Intro", "Data Structures"},
+            new String[] {null, "Trees, graphs and \"more\" — ünïcode"},
+            new int[] {0, 0, 1},
+            new int[] {0},
+            new long[] {10, 11, 12},
+            new int[] {0, -1, 1},
+            new String[] {"CS101", "GONE1", "CS201"},
+            new int[] {2024, 2024, 2024},
+            new int[] {1, 1, 2},
+            new String[] {"Dr. Smith", "Dr. Who", "Dr. Jones"},
+            new int[] {2024, 2024},
+            new int[] {1, 2},
+            new int[] {0, 2, 3});
+    }
+
+    private static byte[] encode(CatalogSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeTo(out);
+        return out.toByteArray();
+    }
+
+    @Test
+    void roundTripsEveryField() throws IOException {
+        CatalogSnapshot original = sampleSnapshot();
+
+        CatalogSnapshot decoded = CatalogSnapshot.decode(ByteBuffer.wrap(encode(original)));
+
+        assertThat(decoded.databaseVersion).isEqualTo(original.databaseVersion);
+        assertThat(decoded.courseIds).containsExactly(original.courseIds);
+        assertThat(decoded.courseCodes).containsExactly(original.courseCodes);
+        assertThat(decoded.titles).containsExactly(original.titles);
+        assertThat(decoded.descriptions).containsExactly(original.descriptions);
+        assertThat(decoded.prerequisiteOffsets).containsExactly(original.prerequisiteOffsets);
+        assertThat(decoded.prerequisiteTargets).containsExactly(original.prerequisiteTargets);
+        assertThat(decoded.instanceIds).containsExactly(original.instanceIds);
+        assertThat(decoded.instanceCourses).containsExactly(original.instanceCourses);
+        assertThat(decoded.instanceCourseCodes).containsExactly(original.instanceCourseCodes);
+        assertThat(decoded.instanceYears).containsExactly(original.instanceYears);
+        assertThat(decoded.instanceSemesters).containsExactly(original.instanceSemesters);
+        assertThat(decoded.instructors).containsExactly(original.instructors);
+        assertThat(decoded.semesterYears).containsExactly(original.semesterYears);
+        assertThat(decoded.semesterNumbers).containsExactly(original.semesterNumbers);
+        assertThat(decoded.semesterStarts).containsExactly(original.semesterStarts);
+    }
+
+    @Test
+    void roundTripsEmptyCatalog() throws IOException {
+        CatalogSnapshot empty = new CatalogSnapshot(new DatabaseVersion(3, 10, 9),
+            new long[0], new String[0], new String[0], new String[0], new int[] {0}, new int[0],
+            new long[0], new int[0], new String[0], new int[0], new int[0], new String[0],
+            new int[0], new int[0], new int[] {0});
+
+        CatalogSnapshot decoded = CatalogSnapshot.decode(ByteBuffer.wrap(encode(empty)));
+
+        assertThat(decoded.courseCount()).isZero();
+        assertThat(decoded.instanceCount()).isZero();
+        assertThat(decoded.semesterStarts).containsExactly(0);
+    }
+
+    @Test
+    void rejectsCorruptedSnapshot() throws IOException {
+        byte[] encoded = encode(sampleSnapshot());
+        encoded[encoded.length / 2] ^= 0x01;
+
+        assertThatThrownBy(() -> CatalogSnapshot.decode(ByteBuffer.wrap(encoded)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("checksum");
+    }
+
+    @Test
+    void rejectsTruncatedSnapshot() throws IOException {
+        byte[] encoded = encode(sampleSnapshot());
+
+        assertThatThrownBy(() -> CatalogSnapshot.decode(ByteBuffer.wrap(Arrays.copyOf(encoded, encoded.length - 20))))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CatalogSnapshot.decode(ByteBuffer.wrap(new byte[4])))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("truncated");
+    }
+
+    @Test
+    void rejectsOtherFiles() {
+        byte[] text = "not a snapshot, just some text".getBytes();
+
+        assertThatThrownBy(() -> CatalogSnapshot.decode(ByteBuffer.wrap(text)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,27 @@
+package com.iitb.coursemanagement.transfer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogExporterTest {
+
+    @Test
+    void leavesPlainValuesUnquoted() {
+        assertThat(CatalogExporter.escapeCsv("CS101")).isEqualTo("CS101");
+        assertThat(CatalogExporter.escapeCsv("")).isEqualTo("");
+        assertThat(CatalogExporter.escapeCsv("Dr. Smith; room 4")).isEqualTo("Dr. Smith; room 4");
+    }
+
+    @Test
+    void quotesValuesWithSeparatorsOrLineBreaks() {
+        assertThat(CatalogExporter.escapeCsv("Data, Structures")).isEqualTo("\"Data, Structures\"");
+        assertThat(CatalogExporter.escapeCsv("line one\nline two")).isEqualTo("\"line one\nline two\"");
+        assertThat(CatalogExporter.escapeCsv("line one\r\nline two")).isEqualTo("\"line one\r\nline two\"");
+    }
+
+    @Test
+    void doublesEmbeddedQuotes() {
+        assertThat(CatalogExporter.escapeCsv("The \"Intro\" course")).isEqualTo("\"The \"\"Intro\"\" course\"");
+    }
+}
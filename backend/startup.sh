@@ -4,9 +4,14 @@
 echo "Starting time synchronization..."
 ntpd -d &
 
+# Use the AOT-processed context and CDS archive when the image was built with -Pfast-start
+if [ -f app.jsa ]; then
+    FAST_START_OPTS="-XX:SharedArchiveFile=app.jsa -Xlog:cds=off -Dspring.aot.enabled=true"
+fi
+
 # Start the Spring Boot application in background
 echo "Starting Spring Boot application..."
-java $JAVA_OPTS -jar app.jar &
+java $JAVA_OPTS $FAST_START_OPTS -jar app.jar &
 
 # Wait for application to be ready
 echo "Waiting for application to start..."
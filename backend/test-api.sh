@@ -30,6 +30,10 @@ EOF
 TOTAL_TESTS=0
 PASSED_TESTS=0
 FAILED_TESTS=0
+SKIPPED_TESTS=0
+
+# Catalog transfer tests need the server's CATALOG_ADMIN_TOKEN (and CATALOG_HTTP_ENABLED=true)
+CATALOG_ADMIN_TOKEN=${CATALOG_ADMIN_TOKEN:-}
 
 # Function to make API calls and check responses
 test_api() {
@@ -84,6 +88,40 @@ test_api() {
     sleep 1
 }
 
+# Records the outcome of a test that checks more than a single status code
+record_result() {
+    local test_name="$1"
+    local description="$2"
+    local expected="$3"
+    local actual="$4"
+
+    TOTAL_TESTS=$((TOTAL_TESTS + 1))
+
+    echo -e "\n${YELLOW}Running Test: $test_name${NC}"
+    echo -e "\n### Test Case: $test_name" >> "$REPORT_FILE"
+    echo "- Description: $description" >> "$REPORT_FILE"
+
+    if [ "$actual" = "$expected" ]; then
+        echo -e "${GREEN}✓ Test passed ($actual)${NC}"
+        PASSED_TESTS=$((PASSED_TESTS + 1))
+        echo "- Status: ✅ PASSED (Expected: $expected, Got: $actual)" >> "$REPORT_FILE"
+    else
+        echo -e "${RED}✗ Test failed (Expected: $expected, Got: $actual)${NC}"
+        FAILED_TESTS=$((FAILED_TESTS + 1))
+        echo "- Status: ❌ FAILED (Expected: $expected, Got: $actual)" >> "$REPORT_FILE"
+    fi
+}
+
+skip_test() {
+    local test_name="$1"
+    local reason="$2"
+
+    SKIPPED_TESTS=$((SKIPPED_TESTS + 1))
+    echo -e "\n${YELLOW}Skipping Test: $test_name ($reason)${NC}"
+    echo -e "\n### Test Case: $test_name" >> "$REPORT_FILE"
+    echo "- Status: ⏭️ SKIPPED ($reason)" >> "$REPORT_FILE"
+}
+
 # Wait for the application to start
 echo "Waiting for the application to start..."
 until curl -s http://localhost:8080/actuator/health &> /dev/null; do
@@ -158,6 +196,61 @@ test_api "Delete Course Instance" "DELETE" "/api/instances/2025/1/CS101" "" 200
 # Test Scenario 12: Delete Course with Dependencies
 test_api "Delete Course with Dependencies" "DELETE" "/api/courses/1" "" 409 "Attempt to delete a course that is a prerequisite"
 
+# Test Scenario 13: Get Semester View
+test_api "Get Semester View" "GET" "/api/semesters/2025/1" "" 200 "Retrieve the normalized semester view"
+
+# Test Scenario 14: Get Semester View with Invalid Semester
+test_api "Get Semester View Invalid Semester" "GET" "/api/semesters/2025/3" "" 400 "Attempt to retrieve a semester view for semester 3"
+
+# Test Scenario 15: Revalidate Semester View
+etag=$(curl -s -D - -o /dev/null "http://localhost:8080/api/semesters/2025/1" | tr -d '\r' | awk 'tolower($1) == "etag:" { print $2 }')
+revalidate_status=$(curl -s -o /dev/null -w "%{http_code}" -H "If-None-Match: $etag" "http://localhost:8080/api/semesters/2025/1")
+record_result "Revalidate Semester View" "Unchanged semester view with its ETag in If-None-Match returns 304" 304 "$revalidate_status"
+
+# Test Scenario 16: Semester View Changes After Write
+curl -s -o /dev/null -X POST "http://localhost:8080/api/instances" -H "Content-Type: application/json" \
+    -d '{"courseId": "MATH101", "year": 2025, "semester": 1, "instructor": "Dr. Jones"}'
+changed_status=$(curl -s -o /dev/null -w "%{http_code}" -H "If-None-Match: $etag" "http://localhost:8080/api/semesters/2025/1")
+record_result "Semester View After Write" "Creating an instance invalidates the cached view and its ETag" 200 "$changed_status"
+curl -s -o /dev/null -X DELETE "http://localhost:8080/api/instances/2025/1/MATH101"
+
+# Test Scenario 17: Catalog Export/Import Round Trip
+if [ -z "$CATALOG_ADMIN_TOKEN" ]; then
+    skip_test "Catalog Export Import Round Trip" "CATALOG_ADMIN_TOKEN not set"
+else
+    export_file="$RESPONSE_DIR/catalog_export.ndjson"
+    reexport_file="$RESPONSE_DIR/catalog_reexport.ndjson"
+    curl -s -H "X-Admin-Token: $CATALOG_ADMIN_TOKEN" "http://localhost:8080/api/catalog/export" -o "$export_file"
+    import_status=$(curl -s -o "$RESPONSE_DIR/catalog_import_response.json" -w "%{http_code}" \
+        -X POST "http://localhost:8080/api/catalog/import" \
+        -H "X-Admin-Token: $CATALOG_ADMIN_TOKEN" -H "Content-Type: application/x-ndjson" \
+        --data-binary "@$export_file")
+    curl -s -H "X-Admin-Token: $CATALOG_ADMIN_TOKEN" "http://localhost:8080/api/catalog/export" -o "$reexport_file"
+    if [ "$import_status" = "200" ] && [ -s "$export_file" ] && cmp -s "$export_file" "$reexport_file"; then
+        round_trip="identical"
+    else
+        round_trip="import $import_status, exports differ"
+    fi
+    record_result "Catalog Export Import Round Trip" "Re-importing an export and exporting again yields the same snapshot" "identical" "$round_trip"
+fi
+
+# Test Scenario 18: Rate Limit Bulk Reads
+# Runs last: it empties this client's bulk-read bucket
+throttled_headers=""
+for ((attempt = 1; attempt <= 200; attempt++)); do
+    headers=$(curl -s -D - -o /dev/null "http://localhost:8080/api/courses" | tr -d '\r')
+    if echo "$headers" | head -1 | grep -q " 429"; then
+        throttled_headers="$headers"
+        break
+    fi
+done
+if [ -n "$throttled_headers" ] && echo "$throttled_headers" | grep -qi "^Retry-After: [0-9]"; then
+    throttle_result="429 with Retry-After"
+else
+    throttle_result="no 429 with Retry-After after 200 requests"
+fi
+record_result "Rate Limit Bulk Reads" "Rapid GET /api/courses is throttled with 429 and a Retry-After header" "429 with Retry-After" "$throttle_result"
+
 # Update report with summary
 cat >> "$REPORT_FILE" << EOF
 
@@ -165,6 +258,7 @@ cat >> "$REPORT_FILE" << EOF
 - Total Tests: $TOTAL_TESTS
 - Passed: $PASSED_TESTS
 - Failed: $FAILED_TESTS
+- Skipped: $SKIPPED_TESTS
 - Success Rate: $(( (PASSED_TESTS * 100) / TOTAL_TESTS ))%
 
 ## Test Environment Details
@@ -177,5 +271,6 @@ echo -e "\n${YELLOW}Test Summary:${NC}"
 echo -e "Total Tests: $TOTAL_TESTS"
 echo -e "${GREEN}Passed: $PASSED_TESTS${NC}"
 echo -e "${RED}Failed: $FAILED_TESTS${NC}"
+echo -e "${YELLOW}Skipped: $SKIPPED_TESTS${NC}"
 echo -e "Success Rate: $(( (PASSED_TESTS * 100) / TOTAL_TESTS ))%"
 echo -e "\nDetailed report has been generated in $REPORT_FILE" 
\ No newline at end of file
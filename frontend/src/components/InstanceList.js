@@ -21,11 +21,12 @@ import {
   Grid,
 } from '@mui/material';
 import { Edit as EditIcon, Delete as DeleteIcon, Search as SearchIcon } from '@mui/icons-material';
-import { instanceApi } from '../services/api';
+import { instanceApi, semesterApi } from '../services/api';
 import { SEMESTER_OPTIONS, getSemesterDisplay } from '../utils/semesterUtils';
 
 function InstanceList() {
   const [instances, setInstances] = useState([]);
+  const [coursesById, setCoursesById] = useState({});
   const [error, setError] = useState('');
   const [year, setYear] = useState(new Date().getFullYear());
   const [semester, setSemester] = useState(1);
@@ -37,9 +38,10 @@ function InstanceList() {
 
   const fetchInstances = async () => {
     try {
-      const response = await instanceApi.getInstancesByYearSemester(year, semester);
-      console.log('Instances:', response.data);
-      setInstances(response.data);
+      const response = await semesterApi.getSemesterView(year, semester);
+      console.log('Semester view:', response.data);
+      setCoursesById(Object.fromEntries(response.data.courses.map((course) => [course.courseId, course])));
+      setInstances(response.data.instances);
     } catch (err) {
       setError('Failed to fetch course instances');
       console.error('Error fetching course instances:', err);
@@ -135,7 +137,7 @@ function InstanceList() {
               instances.map((instance) => (
                 <TableRow key={`${instance.year}-${instance.semester}-${instance.courseId}`}>
                   <TableCell>{instance.courseId}</TableCell>
-                  <TableCell>{instance.courseTitle}</TableCell>
+                  <TableCell>{coursesById[instance.courseId]?.title}</TableCell>
                   <TableCell>{instance.year}</TableCell>
                   <TableCell>{getSemesterDisplay(instance.semester)}</TableCell>
                   <TableCell>{instance.instructor}</TableCell>
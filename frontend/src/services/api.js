@@ -50,4 +50,9 @@ export const instanceApi = {
     api.delete(`/api/instances/${year}/${semester}/${courseId}`),
 };
 
+export const semesterApi = {
+  // Instances for the semester plus each referenced course once, in a single request
+  getSemesterView: (year, semester) => api.get(`/api/semesters/${year}/${semester}`),
+};
+
 export default api; 
\ No newline at end of file